@@ -1,21 +1,63 @@
 package com.capgemini.chess.algorithms.data;
 
+import com.capgemini.chess.algorithms.data.generated.Board;
+
 /**
  * Coordinates of Chess Piece.
  * 
+ * Coordinates are immutable, so the 64 instances of on-board fields are
+ * created once and shared; use {@link #of(int, int)} instead of the
+ * constructor to get them without allocation.
+ * 
  * @author Michal Bejm
  *
  */
 public class Coordinate {
 
-	private int x;
-	private int y;
+	private static final Coordinate[] FIELDS = new Coordinate[Board.SIZE * Board.SIZE];
+
+	static {
+		for (int index = 0; index < FIELDS.length; index++) {
+			FIELDS[index] = new Coordinate(index % Board.SIZE, index / Board.SIZE);
+		}
+	}
+
+	private final int x;
+	private final int y;
 
 	public Coordinate(int x, int y) {
 		this.x = x;
 		this.y = y;
 	}
 
+	/**
+	 * Gets coordinates of the field. Shared instance is returned for fields
+	 * of the board, a new one for coordinates out of the board.
+	 * 
+	 * @param x
+	 *            file of the field
+	 * @param y
+	 *            rank of the field
+	 * @return coordinates
+	 */
+	public static Coordinate of(int x, int y) {
+		if (x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE) {
+			return FIELDS[y * Board.SIZE + x];
+		}
+		return new Coordinate(x, y);
+	}
+
+	/**
+	 * Gets shared coordinates of the field with given index
+	 * 
+	 * @param index
+	 *            index of the field, from 0 to 63 (see {@link #getIndex()})
+	 * @return coordinates
+	 */
+	public static Coordinate of(int index) {
+		return FIELDS[index];
+	}
+
 	public int getX() {
 		return x;
 	}
@@ -24,6 +66,17 @@ public class Coordinate {
 		return y;
 	}
 
+	/**
+	 * Gets index of the field, {@code y * 8 + x}, the same as the bit of the
+	 * field in {@link Board} bitboards. Meaningful only for fields of the
+	 * board.
+	 * 
+	 * @return index of the field, from 0 to 63
+	 */
+	public int getIndex() {
+		return y * Board.SIZE + x;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -0,0 +1,102 @@
+package com.capgemini.chess.algorithms.data;
+
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Chess move packed into a single int, used where moves are produced in bulk
+ * and {@link Move} objects would only add garbage.
+ *
+ * Layout of the bits: 0-5 index of 'from' field, 6-11 index of 'to' field,
+ * 12-13 move type, 14-16 promotion piece type plus one (0 if there is no
+ * promotion). Field indexes are the same as in {@link Board} bitboards.
+ *
+ * @author TMAZUREK
+ *
+ */
+public final class PackedMove {
+
+	/**
+	 * Number of low bits of an int used by a packed move, higher bits are
+	 * always zero
+	 */
+	public static final int BITS = 17;
+
+	private static final MoveType[] MOVE_TYPES = MoveType.values();
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int TO_SHIFT = 6;
+	private static final int TYPE_SHIFT = 12;
+	private static final int TYPE_MASK = 0x3;
+	private static final int PROMOTION_SHIFT = 14;
+	private static final int PROMOTION_MASK = 0x7;
+
+	private PackedMove() {
+	}
+
+	/**
+	 * Packs move into an int
+	 *
+	 * @param from
+	 *            index of 'from' field
+	 * @param to
+	 *            index of 'to' field
+	 * @param type
+	 *            type of the move
+	 * @param promotion
+	 *            type of the piece a pawn is promoted to or null
+	 * @return packed move
+	 */
+	public static int pack(int from, int to, MoveType type, PieceType promotion) {
+		int packed = from | to << TO_SHIFT | type.ordinal() << TYPE_SHIFT;
+		if (promotion != null) {
+			packed |= (promotion.ordinal() + 1) << PROMOTION_SHIFT;
+		}
+		return packed;
+	}
+
+	public static int getFrom(int packedMove) {
+		return packedMove & SQUARE_MASK;
+	}
+
+	public static int getTo(int packedMove) {
+		return packedMove >>> TO_SHIFT & SQUARE_MASK;
+	}
+
+	public static MoveType getType(int packedMove) {
+		return MOVE_TYPES[packedMove >>> TYPE_SHIFT & TYPE_MASK];
+	}
+
+	/**
+	 * Gets type of the piece a pawn is promoted to
+	 *
+	 * @param packedMove
+	 *            packed move
+	 * @return promotion piece type or null if the move is not a promotion
+	 */
+	public static PieceType getPromotion(int packedMove) {
+		int promotion = packedMove >>> PROMOTION_SHIFT & PROMOTION_MASK;
+		return promotion == 0 ? null : PIECE_TYPES[promotion - 1];
+	}
+
+	/**
+	 * Creates move object from packed move, taking the moved piece from the
+	 * board on which the move is about to be performed
+	 *
+	 * @param packedMove
+	 *            packed move
+	 * @param board
+	 *            board before the move
+	 * @return move object
+	 */
+	public static Move toMove(int packedMove, Board board) {
+		Move move = new Move();
+		move.setFrom(Coordinate.of(getFrom(packedMove)));
+		move.setTo(Coordinate.of(getTo(packedMove)));
+		move.setType(getType(packedMove));
+		move.setMovedPiece(board.getPieceAt(getFrom(packedMove)));
+		return move;
+	}
+}
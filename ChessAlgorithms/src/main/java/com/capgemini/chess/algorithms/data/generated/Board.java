@@ -1,37 +1,141 @@
 package com.capgemini.chess.algorithms.data.generated;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 
 /**
  * Board representation.
  * Board objects are generated based on move history.
- * 
+ *
+ * Pieces are kept in a flat array indexed by {@code y * SIZE + x}. Besides it
+ * the board keeps twelve bitboards (one per color and piece type) and two
+ * color occupancy masks. Bit number {@code y * SIZE + x} of a mask corresponds
+ * to the field (x, y). The masks are updated together with the array by
+ * {@link #setPieceAt(Piece, Coordinate)}.
+ *
+ * Color occupancy masks serve as per-color piece lists: pieces of one color
+ * are visited by iterating over the set bits of {@link #getOccupancy(Color)}.
+ * Field of the king of every color is tracked as well, see
+ * {@link #getKingSquare(Color)}.
+ *
+ * The board also keeps attack maps: fields attacked by every color and the
+ * number of attackers of every field, see {@link #getAttacks(Color)} and
+ * {@link #getAttackerCount(Color, int)}. The maps are updated by
+ * {@link #setPieceAt(Piece, int)}: attacks of the set or removed piece change
+ * the map of its color, and when a field is emptied or occupied, sliding
+ * pieces whose lines run through it update the maps of their own colors. So
+ * check and castling tests are single lookups.
+ *
+ * Pieces are stateless, so the board also keeps the castling rights; pieces
+ * can be shared between boards.
+ *
+ * The board also keeps a 64-bit Zobrist hash of the piece placement, updated
+ * incrementally together with the bitboards, and a primitive history of
+ * position keys recorded after every move, which makes repetition checks a
+ * scan over longs.
+ *
  * @author Michal Bejm
  *
  */
 public class Board {
-	
+
 	public static final int SIZE = 8;
-	
-	private Piece[][] pieces = new Piece[SIZE][SIZE];
-	private List<Move> moveHistory = new ArrayList<>();
+
+	public static final int WHITE_KINGSIDE_CASTLING = 1;
+	public static final int WHITE_QUEENSIDE_CASTLING = 2;
+	public static final int BLACK_KINGSIDE_CASTLING = 4;
+	public static final int BLACK_QUEENSIDE_CASTLING = 8;
+	public static final int ALL_CASTLING = WHITE_KINGSIDE_CASTLING | WHITE_QUEENSIDE_CASTLING
+			| BLACK_KINGSIDE_CASTLING | BLACK_QUEENSIDE_CASTLING;
+
+	private static final int PIECE_TYPES = PieceType.values().length;
+	private static final long FILE_A = 0x0101010101010101L;
+	private static final long FILE_H = FILE_A << (SIZE - 1);
+
+	// castling rights which depend on the piece standing on the field
+	private static final int[] CASTLING_RIGHTS_OF_FIELD = new int[SIZE * SIZE];
+
+	static {
+		CASTLING_RIGHTS_OF_FIELD[0] = WHITE_QUEENSIDE_CASTLING;
+		CASTLING_RIGHTS_OF_FIELD[4] = WHITE_KINGSIDE_CASTLING | WHITE_QUEENSIDE_CASTLING;
+		CASTLING_RIGHTS_OF_FIELD[SIZE - 1] = WHITE_KINGSIDE_CASTLING;
+		CASTLING_RIGHTS_OF_FIELD[(SIZE - 1) * SIZE] = BLACK_QUEENSIDE_CASTLING;
+		CASTLING_RIGHTS_OF_FIELD[(SIZE - 1) * SIZE + 4] = BLACK_KINGSIDE_CASTLING | BLACK_QUEENSIDE_CASTLING;
+		CASTLING_RIGHTS_OF_FIELD[SIZE * SIZE - 1] = BLACK_KINGSIDE_CASTLING;
+	}
+
+	private Piece[] pieces = new Piece[SIZE * SIZE];
+	private long[] bitboards = new long[Color.values().length * PIECE_TYPES];
+	private long[] occupancy = new long[Color.values().length];
+	private int[] kingSquares = { -1, -1 };
+	private long[] attacks = new long[Color.values().length];
+	// attackers of every field per color, indexed by color ordinal * 64 + field
+	private byte[] attackerCounts = new byte[Color.values().length * SIZE * SIZE];
+	// fields attacked by the piece standing on every field
+	private long[] pieceAttacks = new long[SIZE * SIZE];
+	private long placementKey;
+	private int castlingRights = ALL_CASTLING;
+	private long[] positionKeys = new long[16];
+	private int[] repetitionStarts = new int[16];
+	private int positionKeysCount;
+	private int repetitionStart;
+	private MoveHistory moveHistory = new MoveHistory();
+	private int initialPlyCount;
+	private int initialEnPassantFile = -1;
 	private BoardState state;
-	
+
 	public Board() {
 	}
 
-	public List<Move> getMoveHistory() {
+	/**
+	 * Creates independent copy of the board, with its move history and the
+	 * positions needed to detect repetitions
+	 *
+	 * @param other
+	 *            board to copy
+	 */
+	public Board(Board other) {
+		this.pieces = other.pieces.clone();
+		this.bitboards = other.bitboards.clone();
+		this.occupancy = other.occupancy.clone();
+		this.kingSquares = other.kingSquares.clone();
+		this.attacks = other.attacks.clone();
+		this.attackerCounts = other.attackerCounts.clone();
+		this.pieceAttacks = other.pieceAttacks.clone();
+		this.placementKey = other.placementKey;
+		this.castlingRights = other.castlingRights;
+		this.positionKeys = other.positionKeys.clone();
+		this.repetitionStarts = other.repetitionStarts.clone();
+		this.positionKeysCount = other.positionKeysCount;
+		this.repetitionStart = other.repetitionStart;
+		this.moveHistory = new MoveHistory(other.moveHistory);
+		this.initialPlyCount = other.initialPlyCount;
+		this.initialEnPassantFile = other.initialEnPassantFile;
+		this.state = other.state;
+	}
+
+	public MoveHistory getMoveHistory() {
 		return moveHistory;
 	}
 
+	/**
+	 * Gets copy of the pieces as a grid indexed by [x][y]
+	 *
+	 * @return grid of pieces
+	 */
 	public Piece[][] getPieces() {
-		return pieces;
+		Piece[][] grid = new Piece[SIZE][SIZE];
+		for (int square = 0; square < pieces.length; square++) {
+			grid[square % SIZE][square / SIZE] = pieces[square];
+		}
+		return grid;
 	}
 
 	public BoardState getState() {
@@ -41,25 +145,514 @@ public class Board {
 	public void setState(BoardState state) {
 		this.state = state;
 	}
-	
+
 	/**
 	 * Sets chess piece on board based on given coordinates
-	 * 
+	 *
 	 * @param piece chess piece
 	 * @param board chess board
 	 * @param coordinate given coordinates
 	 */
 	public void setPieceAt(Piece piece, Coordinate coordinate) {
-		pieces[coordinate.getX()][coordinate.getY()] = piece;
+		if (!isOnBoard(coordinate)) {
+			throw new IllegalArgumentException("Coordinate out of board");
+		}
+		setPieceAt(piece, square(coordinate));
 	}
-	
+
+	/**
+	 * Sets chess piece on board based on given field index
+	 *
+	 * @param piece chess piece
+	 * @param square index of the field, from 0 to 63
+	 */
+	public void setPieceAt(Piece piece, int square) {
+		Piece previous = pieces[square];
+		long mask = 1L << square;
+		if (previous != null) {
+			removeAttacks(previous.getColor(), pieceAttacks[square]);
+			pieceAttacks[square] = 0;
+			bitboards[bitboardIndex(previous.getColor(), previous.getType())] &= ~mask;
+			occupancy[previous.getColor().ordinal()] &= ~mask;
+			placementKey ^= Zobrist.piece(previous.getColor(), previous.getType(), square);
+			if (previous.getType() == PieceType.KING) {
+				updateKingSquare(previous.getColor());
+			}
+		}
+		pieces[square] = piece;
+		if (piece != null) {
+			bitboards[bitboardIndex(piece.getColor(), piece.getType())] |= mask;
+			occupancy[piece.getColor().ordinal()] |= mask;
+			placementKey ^= Zobrist.piece(piece.getColor(), piece.getType(), square);
+			if (piece.getType() == PieceType.KING) {
+				updateKingSquare(piece.getColor());
+			}
+		}
+		if ((previous == null) != (piece == null)) {
+			updateSliderAttacks(square);
+		}
+		if (piece != null) {
+			pieceAttacks[square] = getPieceAttacks(piece, square, getOccupancy());
+			addAttacks(piece.getColor(), pieceAttacks[square]);
+		}
+	}
+
 	/**
 	 * Gets chess piece from board based on given coordinates
-	 * 
+	 *
 	 * @param coordinate given coordinates
 	 * @return chess piece
 	 */
 	public Piece getPieceAt(Coordinate coordinate) {
-		return pieces[coordinate.getX()][coordinate.getY()];
+		return pieces[coordinate.getIndex()];
+	}
+
+	/**
+	 * Gets chess piece from board based on given field index
+	 *
+	 * @param square index of the field, from 0 to 63
+	 * @return chess piece
+	 */
+	public Piece getPieceAt(int square) {
+		return pieces[square];
+	}
+
+	/**
+	 * Gets mask of the fields occupied by pieces of given color and type
+	 *
+	 * @param color color of pieces
+	 * @param type type of pieces
+	 * @return bitboard of the pieces
+	 */
+	public long getBitboard(Color color, PieceType type) {
+		return bitboards[bitboardIndex(color, type)];
+	}
+
+	/**
+	 * Gets mask of the fields occupied by pieces of given color
+	 *
+	 * @param color color of pieces
+	 * @return bitboard of the pieces
+	 */
+	public long getOccupancy(Color color) {
+		return occupancy[color.ordinal()];
+	}
+
+	/**
+	 * Gets field of the king of given color
+	 *
+	 * @param color color of the king
+	 * @return index of the field, from 0 to 63, or -1 if there is no king
+	 */
+	public int getKingSquare(Color color) {
+		return kingSquares[color.ordinal()];
+	}
+
+	/**
+	 * Gets fields attacked by pieces of given color, whether they are empty
+	 * or occupied. The map is kept up to date by setting pieces.
+	 *
+	 * @param color color of attacking pieces
+	 * @return mask of attacked fields
+	 */
+	public long getAttacks(Color color) {
+		return attacks[color.ordinal()];
+	}
+
+	/**
+	 * Gets number of pieces of given color attacking the field
+	 *
+	 * @param color color of attacking pieces
+	 * @param square index of the field, from 0 to 63
+	 * @return number of attacking pieces
+	 */
+	public int getAttackerCount(Color color, int square) {
+		return attackerCounts[color.ordinal() * SIZE * SIZE + square];
+	}
+
+	/**
+	 * Calculates fields attacked by pieces of given color with sliding pieces
+	 * blocked by given occupancy, e.g. without the king escaping along the
+	 * line of a check
+	 *
+	 * @param color color of attacking pieces
+	 * @param occupancy mask of fields blocking sliding pieces
+	 * @return mask of attacked fields
+	 */
+	public long getAttacks(Color color, long occupancy) {
+		long pawns = getBitboard(color, PieceType.PAWN);
+		long result;
+		if (color == Color.WHITE) {
+			result = (pawns << (SIZE + 1) & ~FILE_A) | (pawns << (SIZE - 1) & ~FILE_H);
+		} else {
+			result = (pawns >>> (SIZE - 1) & ~FILE_A) | (pawns >>> (SIZE + 1) & ~FILE_H);
+		}
+
+		long knights = getBitboard(color, PieceType.KNIGHT);
+		while (knights != 0) {
+			result |= AttackTables.knightAttacks(Long.numberOfTrailingZeros(knights));
+			knights &= knights - 1;
+		}
+		long queens = getBitboard(color, PieceType.QUEEN);
+		long rooks = getBitboard(color, PieceType.ROOK) | queens;
+		while (rooks != 0) {
+			result |= AttackTables.rookAttacks(Long.numberOfTrailingZeros(rooks), occupancy);
+			rooks &= rooks - 1;
+		}
+		long bishops = getBitboard(color, PieceType.BISHOP) | queens;
+		while (bishops != 0) {
+			result |= AttackTables.bishopAttacks(Long.numberOfTrailingZeros(bishops), occupancy);
+			bishops &= bishops - 1;
+		}
+		int kingSquare = getKingSquare(color);
+		if (kingSquare >= 0) {
+			result |= AttackTables.kingAttacks(kingSquare);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets mask of all occupied fields
+	 *
+	 * @return bitboard of all pieces
+	 */
+	public long getOccupancy() {
+		return occupancy[Color.WHITE.ordinal()] | occupancy[Color.BLACK.ordinal()];
+	}
+
+	/**
+	 * Checks if both boards hold the same pieces on the same fields
+	 *
+	 * @param other board to compare with
+	 * @return true if piece placement is equal, false otherwise
+	 */
+	public boolean hasSamePlacement(Board other) {
+		for (int i = 0; i < bitboards.length; i++) {
+			if (bitboards[i] != other.bitboards[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets number of moves since the last pawn move or capture, as used by
+	 * the fifty-move rule and written in serialized positions
+	 *
+	 * @return halfmove clock
+	 */
+	public int getHalfmoveClock() {
+		return moveHistory.getHalfmoveClock();
+	}
+
+	/**
+	 * Sets halfmove clock of the position the move history starts from
+	 *
+	 * @param halfmoveClock number of moves since the last pawn move or capture
+	 * @throws IllegalStateException in case moves were already made
+	 */
+	public void setHalfmoveClock(int halfmoveClock) {
+		if (!moveHistory.isEmpty()) {
+			throw new IllegalStateException("Halfmove clock can be set only before the first move");
+		}
+		moveHistory.setInitialHalfmoveClock(halfmoveClock);
+	}
+
+	/**
+	 * Gets number of half-moves made since the start of the game, including
+	 * those made before the position the move history starts from
+	 *
+	 * @return number of half-moves
+	 */
+	public int getPlyCount() {
+		return initialPlyCount + moveHistory.size();
+	}
+
+	/**
+	 * Sets number of half-moves made before the position the move history
+	 * starts from; odd number means black moves first
+	 *
+	 * @param plyCount number of half-moves
+	 * @throws IllegalStateException in case moves were already made
+	 */
+	public void setInitialPlyCount(int plyCount) {
+		if (!moveHistory.isEmpty()) {
+			throw new IllegalStateException("Ply count can be set only before the first move");
+		}
+		if (plyCount < 0) {
+			throw new IllegalArgumentException("Ply count cannot be negative");
+		}
+		this.initialPlyCount = plyCount;
+	}
+
+	/**
+	 * Sets file on which a pawn moved two fields forward just before the
+	 * position the move history starts from
+	 *
+	 * @param file file of the pawn, from 0 to 7, or -1 if there is none
+	 * @throws IllegalStateException in case moves were already made
+	 */
+	public void setInitialEnPassantFile(int file) {
+		if (!moveHistory.isEmpty()) {
+			throw new IllegalStateException("En passant file can be set only before the first move");
+		}
+		if (file < -1 || file >= SIZE) {
+			throw new IllegalArgumentException("Invalid en passant file: " + file);
+		}
+		this.initialEnPassantFile = file;
+	}
+
+	/**
+	 * Gets color of the player who makes the next move
+	 *
+	 * @return color of the next move
+	 */
+	public Color getNextMoveColor() {
+		return getPlyCount() % 2 == 0 ? Color.WHITE : Color.BLACK;
+	}
+
+	/**
+	 * Gets castling rights as a mask of the *_CASTLING constants. A right is
+	 * reported as long as it was not lost by a move of the king or the rook
+	 * and both pieces stand on their initial fields. New board has all rights.
+	 *
+	 * @return mask of castling rights
+	 */
+	public int getCastlingRights() {
+		int rights = castlingRights;
+		if (!isPieceOn(Color.WHITE, PieceType.KING, 4)) {
+			rights &= ~(WHITE_KINGSIDE_CASTLING | WHITE_QUEENSIDE_CASTLING);
+		}
+		if (!isPieceOn(Color.WHITE, PieceType.ROOK, SIZE - 1)) {
+			rights &= ~WHITE_KINGSIDE_CASTLING;
+		}
+		if (!isPieceOn(Color.WHITE, PieceType.ROOK, 0)) {
+			rights &= ~WHITE_QUEENSIDE_CASTLING;
+		}
+		if (!isPieceOn(Color.BLACK, PieceType.KING, (SIZE - 1) * SIZE + 4)) {
+			rights &= ~(BLACK_KINGSIDE_CASTLING | BLACK_QUEENSIDE_CASTLING);
+		}
+		if (!isPieceOn(Color.BLACK, PieceType.ROOK, SIZE * SIZE - 1)) {
+			rights &= ~BLACK_KINGSIDE_CASTLING;
+		}
+		if (!isPieceOn(Color.BLACK, PieceType.ROOK, (SIZE - 1) * SIZE)) {
+			rights &= ~BLACK_QUEENSIDE_CASTLING;
+		}
+		return rights;
+	}
+
+	/**
+	 * Sets castling rights
+	 *
+	 * @param castlingRights mask of the *_CASTLING constants
+	 */
+	public void setCastlingRights(int castlingRights) {
+		this.castlingRights = castlingRights;
+	}
+
+	/**
+	 * Removes castling rights which are lost when a piece moves from or to
+	 * the field, i.e. when the king or a rook leaves its initial field or a
+	 * rook is captured there
+	 *
+	 * @param square index of the field, from 0 to 63
+	 */
+	public void clearCastlingRights(int square) {
+		castlingRights &= ~CASTLING_RIGHTS_OF_FIELD[square];
+	}
+
+	/**
+	 * Gets file on which the next move may capture en passant. The file is
+	 * reported only if the last move was a double pawn step and a pawn of
+	 * the next moving color stands next to the moved pawn.
+	 *
+	 * @return file (x coordinate) of the en passant capture or -1
+	 */
+	public int getEnPassantFile() {
+		Color nextMoveColor = getNextMoveColor();
+		int to;
+		if (moveHistory.isEmpty()) {
+			if (initialEnPassantFile < 0) {
+				return -1;
+			}
+			// the pawn stands on the fourth rank of its color
+			to = (nextMoveColor == Color.BLACK ? 3 : SIZE - 4) * SIZE + initialEnPassantFile;
+		} else {
+			int lastMove = moveHistory.getPacked(moveHistory.size() - 1);
+			to = PackedMove.getTo(lastMove);
+			// two ranks forward or backward on the same file
+			if (Math.abs(PackedMove.getFrom(lastMove) - to) != 2 * SIZE) {
+				return -1;
+			}
+		}
+		long pawnMask = 1L << to;
+		if ((getBitboard(nextMoveColor == Color.WHITE ? Color.BLACK : Color.WHITE, PieceType.PAWN) & pawnMask) == 0) {
+			return -1;
+		}
+		long neighbours = (pawnMask << 1 & ~FILE_A) | (pawnMask >>> 1 & ~FILE_H);
+		if ((getBitboard(nextMoveColor, PieceType.PAWN) & neighbours) == 0) {
+			return -1;
+		}
+		return to % SIZE;
+	}
+
+	/**
+	 * Calculates 64-bit Zobrist hash of the position: piece placement, next
+	 * moving color, castling rights and en passant file
+	 *
+	 * @return hash of the position
+	 */
+	public long getPositionKey() {
+		long key = placementKey ^ Zobrist.castling(getCastlingRights());
+		if (getNextMoveColor() == Color.BLACK) {
+			key ^= Zobrist.blackToMove();
+		}
+		int enPassantFile = getEnPassantFile();
+		if (enPassantFile >= 0) {
+			key ^= Zobrist.enPassant(enPassantFile);
+		}
+		return key;
+	}
+
+	/**
+	 * Appends key of the current position to the history of positions
+	 *
+	 * @param irreversible
+	 *            true if the position was reached by a move after which no
+	 *            earlier position can repeat
+	 */
+	public void recordPosition(boolean irreversible) {
+		if (positionKeysCount == positionKeys.length) {
+			positionKeys = Arrays.copyOf(positionKeys, positionKeys.length * 2);
+			repetitionStarts = Arrays.copyOf(repetitionStarts, repetitionStarts.length * 2);
+		}
+		repetitionStarts[positionKeysCount] = repetitionStart;
+		if (irreversible) {
+			repetitionStart = positionKeysCount;
+		}
+		positionKeys[positionKeysCount++] = getPositionKey();
+	}
+
+	/**
+	 * Removes the last recorded position, used when a move is taken back
+	 */
+	public void unrecordPosition() {
+		if (positionKeysCount == 0) {
+			throw new IllegalStateException("No recorded position");
+		}
+		repetitionStart = repetitionStarts[--positionKeysCount];
+	}
+
+	/**
+	 * Counts recorded positions equal to the current one since the last
+	 * irreversible move, the current position included if it was recorded
+	 *
+	 * @return number of occurrences of the current position
+	 */
+	public int countRepetitions() {
+		long key = getPositionKey();
+		int counter = 0;
+		for (int i = positionKeysCount - 1; i >= repetitionStart; i--) {
+			if (positionKeys[i] == key) {
+				counter++;
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * Calculates index of bit representing given field in bitboards
+	 *
+	 * @param coordinate given coordinates
+	 * @return index of the field, from 0 to 63
+	 */
+	public static int square(Coordinate coordinate) {
+		return coordinate.getIndex();
+	}
+
+	/**
+	 * Checks if given coordinates point to a field of the board
+	 *
+	 * @param coordinate given coordinates
+	 * @return true if the field is on the board, false otherwise
+	 */
+	public static boolean isOnBoard(Coordinate coordinate) {
+		return coordinate.getX() >= 0 && coordinate.getX() < SIZE && coordinate.getY() >= 0
+				&& coordinate.getY() < SIZE;
+	}
+
+	private void updateKingSquare(Color color) {
+		long king = bitboards[bitboardIndex(color, PieceType.KING)];
+		kingSquares[color.ordinal()] = king == 0 ? -1 : Long.numberOfTrailingZeros(king);
+	}
+
+	/**
+	 * Updates attacks of the sliding pieces of both colors whose lines reach
+	 * the field, after the field was emptied or occupied
+	 */
+	private void updateSliderAttacks(int square) {
+		long occupied = getOccupancy();
+		long queens = getBitboard(Color.WHITE, PieceType.QUEEN) | getBitboard(Color.BLACK, PieceType.QUEEN);
+		long rooks = getBitboard(Color.WHITE, PieceType.ROOK) | getBitboard(Color.BLACK, PieceType.ROOK) | queens;
+		long bishops = getBitboard(Color.WHITE, PieceType.BISHOP) | getBitboard(Color.BLACK, PieceType.BISHOP)
+				| queens;
+		long sliders = (AttackTables.rookAttacks(square, occupied) & rooks)
+				| (AttackTables.bishopAttacks(square, occupied) & bishops);
+		while (sliders != 0) {
+			int slider = Long.numberOfTrailingZeros(sliders);
+			Piece piece = pieces[slider];
+			long updated = getPieceAttacks(piece, slider, occupied);
+			removeAttacks(piece.getColor(), pieceAttacks[slider] & ~updated);
+			addAttacks(piece.getColor(), updated & ~pieceAttacks[slider]);
+			pieceAttacks[slider] = updated;
+			sliders &= sliders - 1;
+		}
+	}
+
+	private void addAttacks(Color color, long fields) {
+		int offset = color.ordinal() * SIZE * SIZE;
+		while (fields != 0) {
+			int field = Long.numberOfTrailingZeros(fields);
+			if (attackerCounts[offset + field]++ == 0) {
+				attacks[color.ordinal()] |= 1L << field;
+			}
+			fields &= fields - 1;
+		}
+	}
+
+	private void removeAttacks(Color color, long fields) {
+		int offset = color.ordinal() * SIZE * SIZE;
+		while (fields != 0) {
+			int field = Long.numberOfTrailingZeros(fields);
+			if (--attackerCounts[offset + field] == 0) {
+				attacks[color.ordinal()] &= ~(1L << field);
+			}
+			fields &= fields - 1;
+		}
+	}
+
+	private static long getPieceAttacks(Piece piece, int square, long occupancy) {
+		switch (piece.getType()) {
+		case PAWN:
+			return AttackTables.pawnAttacks(piece.getColor(), square);
+		case KNIGHT:
+			return AttackTables.knightAttacks(square);
+		case BISHOP:
+			return AttackTables.bishopAttacks(square, occupancy);
+		case ROOK:
+			return AttackTables.rookAttacks(square, occupancy);
+		case QUEEN:
+			return AttackTables.queenAttacks(square, occupancy);
+		default:
+			return AttackTables.kingAttacks(square);
+		}
+	}
+
+	private boolean isPieceOn(Color color, PieceType type, int square) {
+		return (bitboards[bitboardIndex(color, type)] & 1L << square) != 0;
+	}
+
+	private static int bitboardIndex(Color color, PieceType type) {
+		return color.ordinal() * PIECE_TYPES + type.ordinal();
 	}
 }
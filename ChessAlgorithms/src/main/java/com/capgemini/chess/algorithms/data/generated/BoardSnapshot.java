@@ -0,0 +1,225 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.data.pieces.Pieces;
+
+/**
+ * Immutable copy of a board position, safe to read from any thread while the
+ * board itself keeps changing.
+ *
+ * Pieces are kept as bitboards, so a snapshot costs a few longs instead of a
+ * grid, and the move history is a persistent list: a snapshot taken after a
+ * move shares all earlier moves with the snapshot taken before it.
+ *
+ * @author TMAZUREK
+ *
+ */
+public final class BoardSnapshot {
+
+	private static final Color[] COLORS = Color.values();
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+	private final long[] bitboards = new long[COLORS.length * PIECE_TYPES.length];
+	private final Color nextMoveColor;
+	private final int castlingRights;
+	private final int enPassantFile;
+	private final int halfmoveClock;
+	private final int plyCount;
+	private final long positionKey;
+	private final MoveNode lastMove;
+
+	private BoardSnapshot(Board board, MoveNode lastMove) {
+		for (Color color : COLORS) {
+			for (PieceType type : PIECE_TYPES) {
+				bitboards[color.ordinal() * PIECE_TYPES.length + type.ordinal()] = board.getBitboard(color, type);
+			}
+		}
+		this.nextMoveColor = board.getNextMoveColor();
+		this.castlingRights = board.getCastlingRights();
+		this.enPassantFile = board.getEnPassantFile();
+		this.halfmoveClock = board.getHalfmoveClock();
+		this.plyCount = board.getPlyCount();
+		this.positionKey = board.getPositionKey();
+		this.lastMove = lastMove;
+	}
+
+	/**
+	 * Takes snapshot of the board
+	 *
+	 * @param board
+	 *            chess board
+	 * @return snapshot of the current position
+	 */
+	public static BoardSnapshot of(Board board) {
+		return of(board, null, 0);
+	}
+
+	/**
+	 * Takes snapshot of the board, sharing moves with an earlier snapshot of
+	 * the same game
+	 *
+	 * @param board
+	 *            chess board
+	 * @param previous
+	 *            earlier snapshot of the board or null
+	 * @param unchangedMoves
+	 *            number of moves at the start of the history which were not
+	 *            taken back since the earlier snapshot
+	 * @return snapshot of the current position
+	 */
+	public static BoardSnapshot of(Board board, BoardSnapshot previous, int unchangedMoves) {
+		MoveHistory moveHistory = board.getMoveHistory();
+		MoveNode node = previous == null ? null : previous.lastMove;
+		while (node != null && node.index >= unchangedMoves) {
+			node = node.previous;
+		}
+		for (int i = node == null ? 0 : node.index + 1; i < moveHistory.size(); i++) {
+			node = new MoveNode(moveHistory.getPacked(i), moveHistory.getMovedPiece(i), node, i);
+		}
+		return new BoardSnapshot(board, node);
+	}
+
+	/**
+	 * Gets piece on the field
+	 *
+	 * @param coordinate
+	 *            coordinates of the field
+	 * @return piece or null if the field is empty
+	 */
+	public Piece getPieceAt(Coordinate coordinate) {
+		return getPieceAt(coordinate.getIndex());
+	}
+
+	/**
+	 * Gets piece on the field
+	 *
+	 * @param square
+	 *            index of the field, from 0 to 63
+	 * @return piece or null if the field is empty
+	 */
+	public Piece getPieceAt(int square) {
+		long mask = 1L << square;
+		for (int i = 0; i < bitboards.length; i++) {
+			if ((bitboards[i] & mask) != 0) {
+				return Pieces.of(COLORS[i / PIECE_TYPES.length], PIECE_TYPES[i % PIECE_TYPES.length]);
+			}
+		}
+		return null;
+	}
+
+	public long getBitboard(Color color, PieceType type) {
+		return bitboards[color.ordinal() * PIECE_TYPES.length + type.ordinal()];
+	}
+
+	public Color getNextMoveColor() {
+		return nextMoveColor;
+	}
+
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	public int getEnPassantFile() {
+		return enPassantFile;
+	}
+
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	public int getPlyCount() {
+		return plyCount;
+	}
+
+	public long getPositionKey() {
+		return positionKey;
+	}
+
+	/**
+	 * Gets number of moves in the history of the board
+	 *
+	 * @return number of moves
+	 */
+	public int getMoveCount() {
+		return lastMove == null ? 0 : lastMove.index + 1;
+	}
+
+	/**
+	 * Gets the last move of the history
+	 *
+	 * @return move or null if the history is empty
+	 */
+	public Move getLastMove() {
+		return lastMove == null ? null : lastMove.toMove();
+	}
+
+	/**
+	 * Gets moves of the history from the first one
+	 *
+	 * @return unmodifiable list of moves
+	 */
+	public List<Move> getMoves() {
+		Move[] moves = new Move[getMoveCount()];
+		for (MoveNode node = lastMove; node != null; node = node.previous) {
+			moves[node.index] = node.toMove();
+		}
+		return Collections.unmodifiableList(Arrays.asList(moves));
+	}
+
+	/**
+	 * Creates board with the position of the snapshot. The board has empty
+	 * move history, like a board read from FEN.
+	 *
+	 * @return new board
+	 */
+	public Board toBoard() {
+		Board board = new Board();
+		for (int square = 0; square < Board.SIZE * Board.SIZE; square++) {
+			Piece piece = getPieceAt(square);
+			if (piece != null) {
+				board.setPieceAt(piece, square);
+			}
+		}
+		board.setCastlingRights(castlingRights);
+		board.setInitialPlyCount(plyCount);
+		board.setInitialEnPassantFile(enPassantFile);
+		board.setHalfmoveClock(halfmoveClock);
+		return board;
+	}
+
+	/**
+	 * Element of the persistent move history, pointing to the move before
+	 */
+	private static final class MoveNode {
+
+		private final int packedMove;
+		private final Piece movedPiece;
+		private final MoveNode previous;
+		private final int index;
+
+		MoveNode(int packedMove, Piece movedPiece, MoveNode previous, int index) {
+			this.packedMove = packedMove;
+			this.movedPiece = movedPiece;
+			this.previous = previous;
+			this.index = index;
+		}
+
+		Move toMove() {
+			Move move = new Move();
+			move.setFrom(Coordinate.of(PackedMove.getFrom(packedMove)));
+			move.setTo(Coordinate.of(PackedMove.getTo(packedMove)));
+			move.setType(PackedMove.getType(packedMove));
+			move.setMovedPiece(movedPiece);
+			return move;
+		}
+	}
+}
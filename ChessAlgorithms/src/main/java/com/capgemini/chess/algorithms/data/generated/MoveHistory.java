@@ -0,0 +1,229 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.data.pieces.Pieces;
+
+/**
+ * History of moves stored as one int per move: the packed move (see
+ * {@link PackedMove}) with the color and type of the moved piece above it.
+ *
+ * Next to every move the history keeps the halfmove clock after it: the
+ * number of moves since the last pawn move or capture, used by the fifty-move
+ * rule. The clock is updated whenever the history changes, so reading it
+ * costs nothing.
+ *
+ * The history is a {@link java.util.List} of {@link Move} objects for
+ * compatibility, but no move objects are retained: they are created when
+ * read and packed when added. Coordinates of added moves have to point to
+ * fields of the board.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class MoveHistory extends AbstractList<Move> {
+
+	private static final Color[] COLORS = Color.values();
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+	private static final int PIECE_SHIFT = PackedMove.BITS;
+	private static final int MOVE_MASK = (1 << PackedMove.BITS) - 1;
+
+	private int[] entries = new int[16];
+	private int[] halfmoveClocks = new int[16];
+	private int initialHalfmoveClock;
+	private int size;
+
+	public MoveHistory() {
+	}
+
+	/**
+	 * Creates copy of the history
+	 *
+	 * @param other
+	 *            history to copy
+	 */
+	public MoveHistory(MoveHistory other) {
+		this.entries = other.entries.clone();
+		this.halfmoveClocks = other.halfmoveClocks.clone();
+		this.initialHalfmoveClock = other.initialHalfmoveClock;
+		this.size = other.size;
+	}
+
+	/**
+	 * Gets number of moves since the last pawn move or capture
+	 *
+	 * @return halfmove clock after the last move
+	 */
+	public int getHalfmoveClock() {
+		return size == 0 ? initialHalfmoveClock : halfmoveClocks[size - 1];
+	}
+
+	/**
+	 * Sets halfmove clock of the position before the first move, e.g. of a
+	 * position loaded from a serialized form
+	 *
+	 * @param halfmoveClock
+	 *            number of moves since the last pawn move or capture
+	 */
+	public void setInitialHalfmoveClock(int halfmoveClock) {
+		if (halfmoveClock < 0) {
+			throw new IllegalArgumentException("Halfmove clock cannot be negative");
+		}
+		initialHalfmoveClock = halfmoveClock;
+		updateHalfmoveClocks(0);
+	}
+
+	/**
+	 * Appends packed move to the history
+	 *
+	 * @param packedMove
+	 *            move packed into an int
+	 * @param movedPiece
+	 *            moved piece or null if unknown
+	 */
+	public void addPacked(int packedMove, Piece movedPiece) {
+		insert(size, pack(packedMove, movedPiece));
+	}
+
+	/**
+	 * Gets packed move, including the promotion if it was given when the move
+	 * was added
+	 *
+	 * @param index
+	 *            index of the move
+	 * @return move packed into an int
+	 */
+	public int getPacked(int index) {
+		checkIndex(index, size);
+		return entries[index] & MOVE_MASK;
+	}
+
+	/**
+	 * Gets piece moved by the move without creating the move object
+	 *
+	 * @param index
+	 *            index of the move
+	 * @return moved piece or null if unknown
+	 */
+	public Piece getMovedPiece(int index) {
+		checkIndex(index, size);
+		return unpackPiece(entries[index]);
+	}
+
+	@Override
+	public Move get(int index) {
+		checkIndex(index, size);
+		int entry = entries[index];
+		Move move = new Move();
+		move.setFrom(Coordinate.of(PackedMove.getFrom(entry)));
+		move.setTo(Coordinate.of(PackedMove.getTo(entry)));
+		move.setType(PackedMove.getType(entry));
+		move.setMovedPiece(unpackPiece(entry));
+		return move;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void add(int index, Move move) {
+		checkIndex(index, size + 1);
+		insert(index, pack(move));
+	}
+
+	@Override
+	public Move set(int index, Move move) {
+		Move previous = get(index);
+		entries[index] = pack(move);
+		updateHalfmoveClocks(index);
+		return previous;
+	}
+
+	@Override
+	public Move remove(int index) {
+		Move previous = get(index);
+		System.arraycopy(entries, index + 1, entries, index, size - index - 1);
+		size--;
+		updateHalfmoveClocks(index);
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	private void insert(int index, int entry) {
+		if (size == entries.length) {
+			entries = Arrays.copyOf(entries, size * 2);
+			halfmoveClocks = Arrays.copyOf(halfmoveClocks, size * 2);
+		}
+		System.arraycopy(entries, index, entries, index + 1, size - index);
+		entries[index] = entry;
+		size++;
+		updateHalfmoveClocks(index);
+		modCount++;
+	}
+
+	/**
+	 * Recalculates halfmove clocks from the move with given index to the end;
+	 * moves are appended and removed at the end, so usually there is one
+	 * clock to calculate or none
+	 */
+	private void updateHalfmoveClocks(int index) {
+		for (int i = index; i < size; i++) {
+			int previous = i == 0 ? initialHalfmoveClock : halfmoveClocks[i - 1];
+			halfmoveClocks[i] = isIrreversible(entries[i]) ? 0 : previous + 1;
+		}
+	}
+
+	private static boolean isIrreversible(int entry) {
+		MoveType type = PackedMove.getType(entry);
+		Piece movedPiece = unpackPiece(entry);
+		return type == MoveType.CAPTURE || type == MoveType.EN_PASSANT
+				|| (movedPiece != null && movedPiece.getType() == PieceType.PAWN);
+	}
+
+	private static int pack(Move move) {
+		if (!Board.isOnBoard(move.getFrom()) || !Board.isOnBoard(move.getTo())) {
+			throw new IllegalArgumentException("Coordinate out of board");
+		}
+		return pack(PackedMove.pack(Board.square(move.getFrom()), Board.square(move.getTo()), move.getType(), null),
+				move.getMovedPiece());
+	}
+
+	private static int pack(int packedMove, Piece movedPiece) {
+		int piece = 0;
+		if (movedPiece != null) {
+			piece = movedPiece.getColor().ordinal() * PIECE_TYPES.length + movedPiece.getType().ordinal() + 1;
+		}
+		return packedMove | piece << PIECE_SHIFT;
+	}
+
+	private static Piece unpackPiece(int entry) {
+		int piece = entry >>> PIECE_SHIFT;
+		if (piece == 0) {
+			return null;
+		}
+		return Pieces.of(COLORS[(piece - 1) / PIECE_TYPES.length], PIECE_TYPES[(piece - 1) % PIECE_TYPES.length]);
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
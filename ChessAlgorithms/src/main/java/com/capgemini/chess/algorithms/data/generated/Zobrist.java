@@ -0,0 +1,66 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Random keys used to build 64-bit position hashes (Zobrist hashing). The
+ * hash of a position is the XOR of the keys of all its features, so a
+ * single feature can be added or removed in constant time.
+ *
+ * Keys are generated with a fixed seed, so hashes are stable between runs.
+ *
+ * @author TMAZUREK
+ *
+ */
+final class Zobrist {
+
+	private static final int SQUARES = Board.SIZE * Board.SIZE;
+	private static final int PIECE_TYPES = PieceType.values().length;
+
+	private static final long[] PIECE_KEYS = new long[Color.values().length * PIECE_TYPES * SQUARES];
+	private static final long[] CASTLING_KEYS = new long[16];
+	private static final long[] EN_PASSANT_KEYS = new long[Board.SIZE];
+	private static final long BLACK_TO_MOVE_KEY;
+
+	static {
+		long counter = 0L;
+		for (int i = 0; i < PIECE_KEYS.length; i++) {
+			PIECE_KEYS[i] = mix(++counter);
+		}
+		for (int i = 1; i < CASTLING_KEYS.length; i++) {
+			CASTLING_KEYS[i] = mix(++counter);
+		}
+		for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+			EN_PASSANT_KEYS[i] = mix(++counter);
+		}
+		BLACK_TO_MOVE_KEY = mix(++counter);
+	}
+
+	private Zobrist() {
+	}
+
+	static long piece(Color color, PieceType type, int square) {
+		return PIECE_KEYS[(color.ordinal() * PIECE_TYPES + type.ordinal()) * SQUARES + square];
+	}
+
+	static long castling(int castlingRights) {
+		return CASTLING_KEYS[castlingRights];
+	}
+
+	static long enPassant(int file) {
+		return EN_PASSANT_KEYS[file];
+	}
+
+	static long blackToMove() {
+		return BLACK_TO_MOVE_KEY;
+	}
+
+	// splitmix64 output function
+	private static long mix(long counter) {
+		long z = counter * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -4,12 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.Color;
-import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 
 /**
  * Class being responsible for representing Bishop in the chess game
@@ -22,71 +20,24 @@ public class Bishop implements Piece {
 
 	private final Color color;
 	private final PieceType type = PieceType.BISHOP;
-	private boolean wasMoved;
 
 	public Bishop(Color color) {
-		wasMoved = false;
 		this.color = color;
 	}
 
 	/**
-	 * Method used to check, if the possible move is a valid one for bishop
+	 * Method returning fields the bishop can move to: fields attacked along
+	 * its diagonals, which are not occupied by own pieces
 	 * 
-	 * @param state
-	 *            current state of board
-	 * @param from
-	 *            where the move begins
-	 * @param to
-	 *            destination of move
-	 * @return if the move is correct it return the Move instance, otherwise
-	 *         throws InvalidMoveException
+	 * @param board
+	 *            current board
+	 * @param square
+	 *            field of the bishop
+	 * @return mask of destination fields
 	 */
 	@Override
-	public Move validateMove(Piece[][] state, Coordinate from, Coordinate to) throws InvalidMoveException {
-		List<Coordinate> possibles = getPossibleLocations(from);
-		if (!possibles.contains(to))
-			throw new InvalidMoveException();
-
-		Move result = new Move();
-
-		MoveType type = MoveTypeChecker.getMoveType(getColor(), state, to);
-		if (type == null)
-			return null;
-
-		result.setType(type);
-		result.setFrom(from);
-		result.setTo(to);
-		result.setMovedPiece(this);
-
-		int i = 1;
-		if (to.getX() < from.getX()) {
-			if (to.getY() < from.getY()) {
-				while (from.getX() - i > to.getX()) {
-					if (state[from.getX() - i][from.getY() - i] != null)
-						throw new InvalidMoveException();
-					i++;
-				}
-			} else {
-				while (from.getX() - i > to.getX()) {
-					if (state[from.getX() - i][from.getY() + i] != null)
-						throw new InvalidMoveException();
-					i++;
-				}
-			}
-		} else if (to.getY() < from.getY()) {
-			while (from.getX() + i < to.getX()) {
-				if (state[from.getX() + i][from.getY() - i] != null)
-					throw new InvalidMoveException();
-				i++;
-			}
-		} else {
-			while (from.getX() + i < to.getX()) {
-				if (state[from.getX() + i][from.getY() + i] != null)
-					throw new InvalidMoveException();
-				i++;
-			}
-		}
-		return result;
+	public long getTargets(Board board, int square) {
+		return AttackTables.bishopAttacks(square, board.getOccupancy()) & ~board.getOccupancy(getColor());
 	}
 
 	/**
@@ -106,7 +57,7 @@ public class Bishop implements Piece {
 		while (x > 0 && y > 0) {
 			x--;
 			y--;
-			possibleCoordinates.add(new Coordinate(x, y));
+			possibleCoordinates.add(Coordinate.of(x, y));
 		}
 		x = currentLocation.getX();
 		y = currentLocation.getY();
@@ -114,7 +65,7 @@ public class Bishop implements Piece {
 		while (x < Board.SIZE - 1 && y < Board.SIZE - 1) {
 			x++;
 			y++;
-			possibleCoordinates.add(new Coordinate(x, y));
+			possibleCoordinates.add(Coordinate.of(x, y));
 		}
 
 		x = currentLocation.getX();
@@ -123,7 +74,7 @@ public class Bishop implements Piece {
 		while (x > 0 && y < Board.SIZE - 1) {
 			x--;
 			y++;
-			possibleCoordinates.add(new Coordinate(x, y));
+			possibleCoordinates.add(Coordinate.of(x, y));
 		}
 
 		x = currentLocation.getX();
@@ -131,7 +82,7 @@ public class Bishop implements Piece {
 		while (x < Board.SIZE - 1 && y > 0) {
 			x++;
 			y--;
-			possibleCoordinates.add(new Coordinate(x, y));
+			possibleCoordinates.add(Coordinate.of(x, y));
 		}
 		return possibleCoordinates;
 	}
@@ -146,16 +97,6 @@ public class Bishop implements Piece {
 		return type;
 	}
 
-	@Override
-	public void setMoved() {
-		wasMoved = true;
-	}
-
-	@Override
-	public boolean wasMoved() {
-		return wasMoved;
-	}
-
 	@Override
 	public boolean equals(Object second) {
 		if (second == this) {
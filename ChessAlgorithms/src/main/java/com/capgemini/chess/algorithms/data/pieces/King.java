@@ -4,13 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.Color;
-import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
-import com.capgemini.chess.algorithms.validators.CheckValidator;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 
 /**
  * Class being the representation of King during the chess game
@@ -23,51 +20,25 @@ public class King implements Piece {
 
 	private final Color color;
 	private final PieceType type = PieceType.KING;
-	private boolean wasMoved;
 
 	public King(Color color) {
-		wasMoved = false;
 		this.color = color;
 	}
 
 	/**
-	 * Method used to check, if the possible move is a valid one for king
+	 * Method returning fields the king can move to, including castling
 	 * 
-	 * @param state
-	 *            current state of board
-	 * @param from
-	 *            where the move begins
-	 * @param to
-	 *            destination of move
-	 * @return if the move is correct it is the Move instance, otherwise throws
-	 *         InvalidMoveException
+	 * @param board
+	 *            current board
+	 * @param square
+	 *            field of the king
+	 * @return mask of destination fields
 	 */
 
 	@Override
-	public Move validateMove(Piece[][] state, Coordinate from, Coordinate to) throws InvalidMoveException {
-		List<Coordinate> possibles = getPossibleLocations(from);
-		if (getColor() == Color.BLACK)
-			possibles.addAll(getPossibleCastlingForBlackKing(state, from));
-		else
-			possibles.addAll(getPossibleCastlingForWhiteKing(state, from));
-
-		if (!possibles.contains(to))
-			throw new InvalidMoveException();
-
-		Move result = new Move();
-		MoveType type = MoveTypeChecker.getMoveType(getColor(), state, to);
-		if (type == null)
-			throw new InvalidMoveException();
-
-		result.setFrom(from);
-		result.setTo(to);
-		result.setMovedPiece(this);
-		result.setType(type);
-
-		if (type == MoveType.ATTACK && Math.abs(to.getX() - from.getX()) > 1)
-			result.setType(MoveType.CASTLING);
-
-		return result;
+	public long getTargets(Board board, int square) {
+		return AttackTables.kingAttacks(square) & ~board.getOccupancy(getColor())
+				| getCastlingTargets(board, square);
 	}
 
 	/**
@@ -87,7 +58,7 @@ public class King implements Piece {
 				for (int y = currentLocation.getY() - 1; y <= currentLocation.getY() + 1; y++) {
 					if (y >= 0 && y < Board.SIZE) {
 						if (x != currentLocation.getX() || y != currentLocation.getY())
-							possibleLocations.add(new Coordinate(x, y));
+							possibleLocations.add(Coordinate.of(x, y));
 					}
 				}
 			}
@@ -95,56 +66,40 @@ public class King implements Piece {
 		return possibleLocations;
 	}
 
-	private List<Coordinate> getPossibleCastlingForBlackKing(Piece[][] state, Coordinate from) {
-
-		List<Coordinate> result = new ArrayList<>();
-		Coordinate kingLocation = new Coordinate(4, 7);
-		if (from.equals(kingLocation) && !wasMoved()) {
-			if (state[5][7] == null && state[6][7] == null && state[7][7] != null && !state[7][7].wasMoved()) {
-				if (willNotBeChecked(state, kingLocation, new Coordinate(5, 7)))
-					result.add(new Coordinate(6, 7));
-			}
-			if (state[3][7] == null && state[2][7] == null && state[1][7] == null && state[0][7] != null
-					&& !state[0][7].wasMoved()) {
-				if (willNotBeChecked(state, kingLocation, new Coordinate(3, 7)))
-					result.add(new Coordinate(2, 7));
-			}
+	private long getCastlingTargets(Board board, int square) {
+		int rights = board.getCastlingRights();
+		int rank = color == Color.WHITE ? 0 : Board.SIZE - 1;
+		int kingSquare = rank * Board.SIZE + 4;
+		if (square != kingSquare) {
+			return 0L;
 		}
-		return result;
-	}
-
-	private List<Coordinate> getPossibleCastlingForWhiteKing(Piece[][] state, Coordinate from) {
-
-		List<Coordinate> result = new ArrayList<>();
-		Coordinate kingLocation = new Coordinate(4, 0);
-		if (from.equals(kingLocation) && !wasMoved()) {
-			if (state[5][0] == null && state[6][0] == null && state[7][0] != null && !state[7][0].wasMoved()) {
-				if (willNotBeChecked(state, kingLocation, new Coordinate(5, 7)))
-					if (willNotBeChecked(state, kingLocation, new Coordinate(5, 0)))
-						result.add(new Coordinate(6, 0));
-			}
-			if (state[3][0] == null && state[2][0] == null && state[1][0] == null && state[0][0] != null
-					&& !state[0][0].wasMoved()) {
-				if (willNotBeChecked(state, kingLocation, new Coordinate(3, 0)))
-					result.add(new Coordinate(2, 0));
-			}
+		if (color == Color.WHITE)
+			rights &= Board.WHITE_KINGSIDE_CASTLING | Board.WHITE_QUEENSIDE_CASTLING;
+		else
+			rights &= Board.BLACK_KINGSIDE_CASTLING | Board.BLACK_QUEENSIDE_CASTLING;
+		if (rights == 0) {
+			return 0L;
 		}
-		return result;
-	}
-
-	private boolean willNotBeChecked(Piece[][] state, Coordinate from, Coordinate to) {
-		Color kingColor = getColor();
-		Piece temp;
-		temp = state[to.getX()][to.getY()];
 
-		state[to.getX()][to.getY()] = state[from.getX()][from.getY()];
-		state[from.getX()][from.getY()] = null;
-
-		boolean result = !CheckValidator.isInCheck(kingColor, state);
-
-		state[from.getX()][from.getY()] = state[to.getX()][to.getY()];
-		state[to.getX()][to.getY()] = temp;
+		// the king may not castle out of, through or into check; attacks on
+		// the destination do not change when the rook jumps over the king
+		long attacked = board.getAttacks(color == Color.WHITE ? Color.BLACK : Color.WHITE);
+		if ((attacked & 1L << kingSquare) != 0) {
+			return 0L;
+		}
 
+		long occupancy = board.getOccupancy();
+		long result = 0L;
+		long kingsidePath = 1L << (kingSquare + 1) | 1L << (kingSquare + 2);
+		if ((rights & (Board.WHITE_KINGSIDE_CASTLING | Board.BLACK_KINGSIDE_CASTLING)) != 0
+				&& (occupancy & kingsidePath) == 0 && (attacked & kingsidePath) == 0) {
+			result |= 1L << (kingSquare + 2);
+		}
+		long queensidePath = 1L << (kingSquare - 1) | 1L << (kingSquare - 2);
+		if ((rights & (Board.WHITE_QUEENSIDE_CASTLING | Board.BLACK_QUEENSIDE_CASTLING)) != 0
+				&& (occupancy & (queensidePath | 1L << (kingSquare - 3))) == 0 && (attacked & queensidePath) == 0) {
+			result |= 1L << (kingSquare - 2);
+		}
 		return result;
 	}
 
@@ -158,16 +113,6 @@ public class King implements Piece {
 		return type;
 	}
 
-	@Override
-	public void setMoved() {
-		wasMoved = true;
-	}
-
-	@Override
-	public boolean wasMoved() {
-		return wasMoved;
-	}
-
 	@Override
 	public boolean equals(Object second) {
 		if (second == this) {
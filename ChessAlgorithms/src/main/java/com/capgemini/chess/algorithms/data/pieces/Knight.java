@@ -1,17 +1,13 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.Color;
-import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 
 /**
  * Class being the representation of Knight during the chess game
@@ -22,43 +18,24 @@ import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveExcep
 public class Knight  implements Piece {
 	private final Color color;
 	private final PieceType type = PieceType.KNIGHT;
-	private boolean wasMoved;
 
 	public Knight(Color color) {
-		wasMoved = false;
 		this.color = color;
 	}
 	
 	/**
-	 * Method used to check, if the possible move is a valid one for Knight
+	 * Method returning fields the knight can move to
 	 * 
-	 * @param state
-	 *            current state of board
-	 * @param from
-	 *            where the move begins
-	 * @param to
-	 *            destination of move
-	 * @return if the move is correct it return the Move instance, otherwise
-	 *         throws InvalidMoveException
+	 * @param board
+	 *            current board
+	 * @param square
+	 *            field of the knight
+	 * @return mask of destination fields
 	 */
 	
 	@Override
-	public Move validateMove(Piece[][] state, Coordinate from, Coordinate to) throws InvalidMoveException {
-		List<Coordinate> possibles = getPossibleLocations(from);
-		if(!possibles.contains(to))
-			throw new InvalidMoveException();
-		
-		Move result = new Move();
-		MoveType type = MoveTypeChecker.getMoveType(getColor(), state, to);
-		if (type == null)
-			throw new InvalidMoveException();
-
-		result.setFrom(from);
-		result.setTo(to);
-		result.setMovedPiece(this);
-		result.setType(type);
-
-		return result;
+	public long getTargets(Board board, int square) {
+		return AttackTables.knightAttacks(square) & ~board.getOccupancy(getColor());
 	}
 
 	/**
@@ -72,30 +49,15 @@ public class Knight  implements Piece {
 	@Override
 	public List<Coordinate> getPossibleLocations(Coordinate currentLocation) {
 
-		List<Coordinate> possibleCoordinates = new LinkedList<>();
-		int x = currentLocation.getX();
-		int y = currentLocation.getY();
+		List<Coordinate> possibleCoordinates = new ArrayList<>(8);
+		long targets = AttackTables.knightAttacks(currentLocation.getIndex());
+		while (targets != 0) {
+			possibleCoordinates.add(Coordinate.of(Long.numberOfTrailingZeros(targets)));
+			targets &= targets - 1;
+		}
 
-		possibleCoordinates.add(new Coordinate(x - 2, y + 1));
-		possibleCoordinates.add(new Coordinate(x - 2, y - 1));
-		possibleCoordinates.add(new Coordinate(x + 2, y + 1));
-		possibleCoordinates.add(new Coordinate(x + 2, y - 1));
-		possibleCoordinates.add(new Coordinate(x - 1, y + 2));
-		possibleCoordinates.add(new Coordinate(x - 1, y - 2));
-		possibleCoordinates.add(new Coordinate(x + 1, y + 2));
-		possibleCoordinates.add(new Coordinate(x + 1, y - 2));
-		
-		possibleCoordinates = possibleCoordinates
-				.stream()
-				.filter(isOutOfTheBoard())
-				.collect(Collectors.toList());
-		
 		return possibleCoordinates;
 	}
-	
-	private static Predicate<Coordinate> isOutOfTheBoard() {
-		return coor -> coor.getX() >= 0 && coor.getX() < Board.SIZE && coor.getY() >= 0 && coor.getY() < Board.SIZE;
-	}
 
 	@Override
 	public Color getColor() {
@@ -107,16 +69,6 @@ public class Knight  implements Piece {
 		return type;
 	}
 	
-	@Override
-	public void setMoved() {
-		wasMoved = true;
-	}
-	
-	@Override
-	public boolean wasMoved() {
-		return wasMoved;
-	}
-	
 	@Override
 	public boolean equals(Object second) {
 		if (second == this) {
@@ -1,8 +1,8 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
 
 /**
  * Class used to get the type of potential move
@@ -14,24 +14,29 @@ import com.capgemini.chess.algorithms.data.enums.MoveType;
 public class MoveTypeChecker {
 
 	/**
-	 * Static method to get the type of a move
+	 * Static method to get the type of a move to a field the piece can reach
 	 * 
-	 * @param color
-	 *            actual color of moving piece
-	 * @param state
-	 *            actual state of board
+	 * @param piece
+	 *            moving piece
+	 * @param board
+	 *            actual board
+	 * @param from
+	 *            index of the field where the move begins
 	 * @param to
-	 *            destination of move
-	 * @return the type of Move
+	 *            index of the destination field
+	 * @return the type of Move or null if the destination holds own piece
 	 */
-	public static MoveType getMoveType(Color color, Piece[][] state, Coordinate to) {
-		if (state[to.getX()][to.getY()] != null) {
-			if (state[to.getX()][to.getY()].getColor() == color)
-				return null;
-			else
-				return MoveType.CAPTURE;
-		} else
-			return MoveType.ATTACK;
+	public static MoveType getMoveType(Piece piece, Board board, int from, int to) {
+		long field = 1L << to;
+		if ((board.getOccupancy(piece.getColor()) & field) != 0)
+			return null;
+		if ((board.getOccupancy() & field) != 0)
+			return MoveType.CAPTURE;
+		if (piece.getType() == PieceType.KING && Math.abs(to % Board.SIZE - from % Board.SIZE) == 2)
+			return MoveType.CASTLING;
+		if (piece.getType() == PieceType.PAWN && to % Board.SIZE != from % Board.SIZE)
+			return MoveType.EN_PASSANT;
+		return MoveType.ATTACK;
 	}
 
 }
@@ -4,12 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.Color;
-import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 
 /**
  * Class being the representation of Pawn during the chess game
@@ -21,53 +19,43 @@ public class Pawn implements Piece {
 
 	private final Color color;
 	private final PieceType type = PieceType.PAWN;
-	private boolean wasMoved;
 
 	public Pawn(Color color) {
-		wasMoved = false;
 		this.color = color;
 	}
 	
 	/**
-	 * Method used to check, if the possible move is a valid one for Pawn
+	 * Method returning fields the pawn can move to: one or two fields forward
+	 * if they are empty, diagonal captures and en passant
 	 * 
-	 * @param state
-	 *            current state of board
-	 * @param from
-	 *            where the move begins
-	 * @param to
-	 *            destination of move
-	 * @return if the move is correct it return the Move instance, otherwise
-	 *         throws InvalidMoveException
+	 * @param board
+	 *            current board
+	 * @param square
+	 *            field of the pawn
+	 * @return mask of destination fields
 	 */
 
 	@Override
-	public Move validateMove(Piece[][] state, Coordinate from, Coordinate to) throws InvalidMoveException {
-		List<Coordinate> possibles = getPossibleLocations(from);
-		if (color == Color.WHITE) {
-			possibles.removeAll(getImpossibleAttacksForWhite(state, from));
-			possibles.addAll(addPotentialWhiteEnPassant(state, from));
-		} else {
-			possibles.removeAll(getImpossibleAttacksForBlack(state, from));
-			possibles.addAll(addPotentialBlackEnPassant(state, from));
+	public long getTargets(Board board, int square) {
+		long occupancy = board.getOccupancy();
+		long enemies = occupancy & ~board.getOccupancy(color);
+		int direction = color == Color.WHITE ? Board.SIZE : -Board.SIZE;
+		int y = square / Board.SIZE;
+		long result = 0L;
+
+		int forward = square + direction;
+		if (forward >= 0 && forward < Board.SIZE * Board.SIZE && (occupancy & 1L << forward) == 0) {
+			result |= 1L << forward;
+			if (y == getStartRank() && (occupancy & 1L << (forward + direction)) == 0)
+				result |= 1L << (forward + direction);
 		}
 
-		if (!possibles.contains(to))
-			throw new InvalidMoveException();
+		long attacks = AttackTables.pawnAttacks(color, square);
+		result |= attacks & enemies;
 
-		Move result = new Move();
-		MoveType type = MoveTypeChecker.getMoveType(getColor(), state, to);
-		if (type == null)
-			throw new InvalidMoveException();
-		if (type == MoveType.ATTACK && to.getX() != from.getX())
-			type = MoveType.EN_PASSANT;
-		if (type == MoveType.CAPTURE && to.getX() == from.getX())
-			throw new InvalidMoveException();
-
-		result.setFrom(from);
-		result.setTo(to);
-		result.setMovedPiece(this);
-		result.setType(type);
+		int enPassantFile = board.getEnPassantFile();
+		if (enPassantFile >= 0 && y == getStartRank() + 3 * direction / Board.SIZE)
+			result |= attacks & 1L << (forward - forward % Board.SIZE + enPassantFile);
 
 		return result;
 	}
@@ -93,47 +81,13 @@ public class Pawn implements Piece {
 		return possibleLocations;
 	}
 
-	private List<Coordinate> getImpossibleAttacksForWhite(Piece[][] state, Coordinate currentLocation) {
-		List<Coordinate> result = new ArrayList<>();
-		if (currentLocation.getX() + 1 < Board.SIZE) {
-			Piece temp = state[currentLocation.getX() + 1][currentLocation.getY() + 1];
-			if (temp == null || temp.getColor() == color) {
-				result.add(new Coordinate(currentLocation.getX() + 1, currentLocation.getY() + 1));
-			}
-		}
-		if (currentLocation.getX() - 1 >= 0) {
-			Piece temp = state[currentLocation.getX() - 1][currentLocation.getY() + 1];
-			if (temp == null || temp.getColor() == color) {
-				result.add(new Coordinate(currentLocation.getX() - 1, currentLocation.getY() + 1));
-			}
-		}
-		return result;
-	}
-
-	private List<Coordinate> getImpossibleAttacksForBlack(Piece[][] state, Coordinate currentLocation) {
-		List<Coordinate> result = new ArrayList<>();
-		if (currentLocation.getX() + 1 < Board.SIZE) {
-			Piece temp = state[currentLocation.getX() + 1][currentLocation.getY() - 1];
-			if (temp == null || temp.getColor() == color) {
-				result.add(new Coordinate(currentLocation.getX() + 1, currentLocation.getY() - 1));
-			}
-		}
-		if (currentLocation.getX() - 1 >= 0) {
-			Piece temp = state[currentLocation.getX() - 1][currentLocation.getY() - 1];
-			if (temp == null || temp.getColor() == color) {
-				result.add(new Coordinate(currentLocation.getX() - 1, currentLocation.getY() - 1));
-			}
-		}
-		return result;
-	}
-
 	private List<Coordinate> possibleForWhite(Coordinate currentLocation) {
 		List<Coordinate> possibleCoordinates = new ArrayList<>();
 		if (currentLocation.getY() == 1)
-			possibleCoordinates.add(new Coordinate(currentLocation.getX(), currentLocation.getY() + 2));
+			possibleCoordinates.add(Coordinate.of(currentLocation.getX(), currentLocation.getY() + 2));
 		for (int i = -1; i < 2; i++) {
-			if (currentLocation.getX() + i >= 0 && currentLocation.getX() < Board.SIZE)
-				possibleCoordinates.add(new Coordinate(currentLocation.getX() + i, currentLocation.getY() + 1));
+			if (currentLocation.getX() + i >= 0 && currentLocation.getX() + i < Board.SIZE)
+				possibleCoordinates.add(Coordinate.of(currentLocation.getX() + i, currentLocation.getY() + 1));
 		}
 		return possibleCoordinates;
 	}
@@ -141,46 +95,16 @@ public class Pawn implements Piece {
 	private List<Coordinate> possibleForBlack(Coordinate currentLocation) {
 		List<Coordinate> possibleCoordinates = new ArrayList<>();
 		if (currentLocation.getY() == 6)
-			possibleCoordinates.add(new Coordinate(currentLocation.getX(), currentLocation.getY() - 2));
+			possibleCoordinates.add(Coordinate.of(currentLocation.getX(), currentLocation.getY() - 2));
 		for (int i = -1; i < 2; i++) {
-			if (currentLocation.getX() + i >= 0 && currentLocation.getX() < Board.SIZE)
-				possibleCoordinates.add(new Coordinate(currentLocation.getX() + i, currentLocation.getY() - 1));
+			if (currentLocation.getX() + i >= 0 && currentLocation.getX() + i < Board.SIZE)
+				possibleCoordinates.add(Coordinate.of(currentLocation.getX() + i, currentLocation.getY() - 1));
 		}
 		return possibleCoordinates;
 	}
 
-	private List<Coordinate> addPotentialWhiteEnPassant(Piece[][] state, Coordinate currentLocation) {
-		List<Coordinate> result = new ArrayList<>();
-		if (currentLocation.getY() == 4) {
-			if (currentLocation.getX() + 1 < Board.SIZE) {
-				Piece temp = state[currentLocation.getX() + 1][4];
-				if (temp != null && temp.getType() == PieceType.PAWN && temp.getColor() != color)
-					result.add(new Coordinate(currentLocation.getX() + 1, 5));
-			}
-			if (currentLocation.getX() - 1 >= 0) {
-				Piece temp = state[currentLocation.getX() - 1][4];
-				if (temp != null && temp.getType() == PieceType.PAWN && temp.getColor() != color)
-					result.add(new Coordinate(currentLocation.getX() - 1, 5));
-			}
-		}
-		return result;
-	}
-
-	private List<Coordinate> addPotentialBlackEnPassant(Piece[][] state, Coordinate currentLocation) {
-		List<Coordinate> result = new ArrayList<>();
-		if (currentLocation.getY() == 3) {
-			if (currentLocation.getX() + 1 < Board.SIZE) {
-				Piece temp = state[currentLocation.getX() + 1][3];
-				if (temp != null && temp.getType() == PieceType.PAWN && temp.getColor() != color)
-					result.add(new Coordinate(currentLocation.getX() + 1, 2));
-			}
-			if (currentLocation.getX() - 1 >= 0) {
-				Piece temp = state[currentLocation.getX() - 1][3];
-				if (temp != null && temp.getType() == PieceType.PAWN && temp.getColor() != color)
-					result.add(new Coordinate(currentLocation.getX() - 1, 2));
-			}
-		}
-		return result;
+	private int getStartRank() {
+		return color == Color.WHITE ? 1 : Board.SIZE - 2;
 	}
 
 	@Override
@@ -193,16 +117,6 @@ public class Pawn implements Piece {
 		return type;
 	}
 
-	@Override
-	public void setMoved() {
-		wasMoved = true;
-	}
-
-	@Override
-	public boolean wasMoved() {
-		return wasMoved;
-	}
-
 	@Override
 	public boolean equals(Object second) {
 		if (second == this) {
@@ -6,25 +6,87 @@ import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 
 /**
  * Interface for the chess game figures
+ * 
+ * Pieces are immutable and keep no state of the game (castling rights are
+ * kept by {@link Board}), so one instance of every color and type, see
+ * {@link Pieces#of(Color, PieceType)}, can be shared by all boards.
+ * 
  * @author TMAZUREK
  *
  */
 
 public interface Piece {
-	
-	Move validateMove(Piece[][] state, Coordinate from, Coordinate to) throws InvalidMoveException;
+
+	/**
+	 * Gets fields the piece can move to according to its own rules, without
+	 * checking if the king of the moving player stays safe
+	 * 
+	 * @param board
+	 *            current board
+	 * @param square
+	 *            index of the field the piece stands on
+	 * @return mask of destination fields
+	 */
+	long getTargets(Board board, int square);
+
+	/**
+	 * Checks if the piece can move between given fields, without throwing
+	 * exceptions for rejected moves
+	 * 
+	 * @param board
+	 *            current board
+	 * @param from
+	 *            where the move begins
+	 * @param to
+	 *            destination of move
+	 * @return the Move instance if the move is correct, null otherwise
+	 */
+	default Move tryValidateMove(Board board, Coordinate from, Coordinate to) {
+		if (!Board.isOnBoard(from) || !Board.isOnBoard(to))
+			return null;
+
+		int fromSquare = Board.square(from);
+		int toSquare = Board.square(to);
+		if ((getTargets(board, fromSquare) & 1L << toSquare) == 0)
+			return null;
+
+		Move result = new Move();
+		result.setFrom(from);
+		result.setTo(to);
+		result.setMovedPiece(this);
+		result.setType(MoveTypeChecker.getMoveType(this, board, fromSquare, toSquare));
+
+		return result;
+	}
+
+	/**
+	 * Checks if the piece can move between given fields
+	 * 
+	 * @param board
+	 *            current board
+	 * @param from
+	 *            where the move begins
+	 * @param to
+	 *            destination of move
+	 * @return the Move instance if the move is correct
+	 * @throws InvalidMoveException
+	 *             in case move is not valid
+	 */
+	default Move validateMove(Board board, Coordinate from, Coordinate to) throws InvalidMoveException {
+		Move result = tryValidateMove(board, from, to);
+		if (result == null)
+			throw new InvalidMoveException();
+		return result;
+	}
 	
 	public List<Coordinate> getPossibleLocations(Coordinate currentLocation);
 
 	Color getColor();
 
 	PieceType getType();
-
-	void setMoved();
-	
-	boolean wasMoved();
 }
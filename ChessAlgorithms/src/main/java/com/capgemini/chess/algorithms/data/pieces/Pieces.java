@@ -0,0 +1,44 @@
+package com.capgemini.chess.algorithms.data.pieces;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Shared instances of chess pieces, one for every color and type
+ * 
+ * @author TMAZUREK
+ *
+ */
+public final class Pieces {
+
+	private static final int PIECE_TYPES = PieceType.values().length;
+
+	private static final Piece[] PIECES = new Piece[Color.values().length * PIECE_TYPES];
+
+	static {
+		for (Color color : Color.values()) {
+			PIECES[color.ordinal() * PIECE_TYPES + PieceType.KING.ordinal()] = new King(color);
+			PIECES[color.ordinal() * PIECE_TYPES + PieceType.QUEEN.ordinal()] = new Queen(color);
+			PIECES[color.ordinal() * PIECE_TYPES + PieceType.BISHOP.ordinal()] = new Bishop(color);
+			PIECES[color.ordinal() * PIECE_TYPES + PieceType.KNIGHT.ordinal()] = new Knight(color);
+			PIECES[color.ordinal() * PIECE_TYPES + PieceType.ROOK.ordinal()] = new Rook(color);
+			PIECES[color.ordinal() * PIECE_TYPES + PieceType.PAWN.ordinal()] = new Pawn(color);
+		}
+	}
+
+	private Pieces() {
+	}
+
+	/**
+	 * Gets shared instance of the piece
+	 * 
+	 * @param color
+	 *            color of the piece
+	 * @param type
+	 *            type of the piece
+	 * @return piece
+	 */
+	public static Piece of(Color color, PieceType type) {
+		return PIECES[color.ordinal() * PIECE_TYPES + type.ordinal()];
+	}
+}
@@ -4,10 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 
 /**
  * Class being the representation of Queen during the chess game
@@ -20,41 +20,25 @@ public class Queen implements Piece {
 
 	private final Color color;
 	private final PieceType type = PieceType.QUEEN;
-	private boolean wasMoved;
 
 	public Queen(Color color) {
-		wasMoved = false;
 		this.color = color;
 	}
 
 	/**
-	 * Method used to check, if the possible move is a valid one for Queen, using
-	 * the possibilities of Bishop and Rook
+	 * Method returning fields the queen can move to, using the attacks of
+	 * Bishop and Rook
 	 * 
-	 * @param state
-	 *            current state of board
-	 * @param from
-	 *            where the move begins
-	 * @param to
-	 *            destination of move
-	 * @return if the move is correct it return the Move instance, otherwise
-	 *         throws InvalidMoveException
+	 * @param board
+	 *            current board
+	 * @param square
+	 *            field of the queen
+	 * @return mask of destination fields
 	 */
 
 	@Override
-	public Move validateMove(Piece[][] state, Coordinate from, Coordinate to) throws InvalidMoveException {
-		Move result;
-
-		if (from.getX() == to.getX() || from.getY() == to.getY()) {
-			Rook rook = new Rook(getColor());
-			result = rook.validateMove(state, from, to);
-		} else {
-			Bishop bishop = new Bishop(getColor());
-			result = bishop.validateMove(state, from, to);
-		}
-		result.setMovedPiece(this);
-
-		return result;
+	public long getTargets(Board board, int square) {
+		return AttackTables.queenAttacks(square, board.getOccupancy()) & ~board.getOccupancy(getColor());
 	}
 	
 	/**
@@ -70,10 +54,8 @@ public class Queen implements Piece {
 
 		List<Coordinate> possibleCoordinates = new ArrayList<Coordinate>();
 
-		Rook rook = new Rook(getColor());
-		possibleCoordinates.addAll(rook.getPossibleLocations(currentLocation));
-		Bishop bishop = new Bishop(getColor());
-		possibleCoordinates.addAll(bishop.getPossibleLocations(currentLocation));
+		possibleCoordinates.addAll(Pieces.of(getColor(), PieceType.ROOK).getPossibleLocations(currentLocation));
+		possibleCoordinates.addAll(Pieces.of(getColor(), PieceType.BISHOP).getPossibleLocations(currentLocation));
 
 		return possibleCoordinates;
 	}
@@ -88,16 +70,6 @@ public class Queen implements Piece {
 		return type;
 	}
 
-	@Override
-	public void setMoved() {
-		wasMoved = true;
-	}
-
-	@Override
-	public boolean wasMoved() {
-		return wasMoved;
-	}
-
 	@Override
 	public boolean equals(Object second) {
 		if (second == this) {
@@ -4,12 +4,10 @@ import java.util.List;
 import java.util.ArrayList;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.data.Move;
 import com.capgemini.chess.algorithms.data.enums.Color;
-import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 
 /**
  * Class being the representation of Rook during the chess game
@@ -21,70 +19,25 @@ import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveExcep
 public class Rook implements Piece {
 	private final Color color;
 	private final PieceType type = PieceType.ROOK;
-	private boolean wasMoved;
 
 	public Rook(Color color) {
-		wasMoved = false;
 		this.color = color;
 	}
 	
 	/**
-	 * Method used to check, if the possible move is a valid one for Rook
+	 * Method returning fields the rook can move to: fields attacked along
+	 * its rank and file, which are not occupied by own pieces
 	 * 
-	 * @param state
-	 *            current state of board
-	 * @param from
-	 *            where the move begins
-	 * @param to
-	 *            destination of move
-	 * @return if the move is correct it return the Move instance, otherwise
-	 *         throws InvalidMoveException
+	 * @param board
+	 *            current board
+	 * @param square
+	 *            field of the rook
+	 * @return mask of destination fields
 	 */
 
 	@Override
-	public Move validateMove(Piece[][] state, Coordinate from, Coordinate to) throws InvalidMoveException {
-		List<Coordinate> possibles = getPossibleLocations(from);
-		if(!possibles.contains(to))
-			throw new InvalidMoveException();
-		
-		Move result = new Move();
-		MoveType type = MoveTypeChecker.getMoveType(getColor(), state, to);
-		if (type == null)
-			throw new InvalidMoveException();
-
-		result.setType(type);
-		result.setFrom(from);
-		result.setTo(to);
-		result.setMovedPiece(this);
-
-		int i = 1;
-		if (to.getX() < from.getX()) {
-			while (from.getX() - i > to.getX()) {
-				if (state[from.getX() - i][from.getY()] != null)
-					throw new InvalidMoveException();
-				i++;
-			}
-		} else if (to.getX() > from.getX()) {
-			while (from.getX() + i < to.getX()) {
-				if (state[from.getX() + i][from.getY()] != null)
-					throw new InvalidMoveException();
-				i++;
-			}
-		} else if (to.getY() < from.getY()) {
-			while (from.getY() - i > to.getX()) {
-				if (state[from.getX()][from.getY() - i] != null)
-					throw new InvalidMoveException();
-				i++;
-			}
-		} else {
-			while (from.getY() + i < to.getY()) {
-				if (state[from.getX()][from.getY() + i] != null)
-					throw new InvalidMoveException();
-				i++;
-			}
-		}
-
-		return result;
+	public long getTargets(Board board, int square) {
+		return AttackTables.rookAttacks(square, board.getOccupancy()) & ~board.getOccupancy(getColor());
 	}
 	
 	/**
@@ -101,11 +54,11 @@ public class Rook implements Piece {
 
 		for (int i = 0; i < Board.SIZE; i++) {
 			if (i != currentLocation.getX())
-				possibleCoordinats.add(new Coordinate(i, currentLocation.getY()));
+				possibleCoordinats.add(Coordinate.of(i, currentLocation.getY()));
 		}
 		for (int i = 0; i < Board.SIZE; i++) {
 			if (i != currentLocation.getY())
-				possibleCoordinats.add(new Coordinate(currentLocation.getX(), i));
+				possibleCoordinats.add(Coordinate.of(currentLocation.getX(), i));
 		}
 
 		return possibleCoordinats;
@@ -117,16 +70,6 @@ public class Rook implements Piece {
 		return color;
 	}
 	
-	@Override
-	public void setMoved() {
-		wasMoved = true;
-	}
-	
-	@Override
-	public boolean wasMoved() {
-		return wasMoved;
-	}
-
 	@Override
 	public PieceType getType() {
 		return type;
@@ -0,0 +1,167 @@
+package com.capgemini.chess.algorithms.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Level;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Chess engine choosing moves by iterative deepening alpha-beta search.
+ *
+ * The search makes and takes back moves on the given board manager, so no
+ * board is copied, and leaves the position as it was. The manager must not
+ * be used by other threads until the search returns. The piece to which the
+ * best move promotes a pawn is given by {@link SearchResult#getPromotion()}.
+ *
+ * An engine with more than one thread runs helper searches of the same
+ * position on their own copies of the board manager (see
+ * {@link BoardManager#BoardManager(BoardManager)}), which keep the positions
+ * of the game so repetitions are still detected. All searches share the
+ * transposition table; the result is taken from the search which completed
+ * the deepest iteration and its node count includes all threads. The node
+ * limit applies to the main search only.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class Engine {
+
+	/** Size of the transposition table of the default engine */
+	public static final int DEFAULT_TABLE_SIZE_MB = 16;
+
+	private final TranspositionTable table;
+	private final int threads;
+
+	/**
+	 * Creates single-threaded engine with a transposition table of the
+	 * default size
+	 */
+	public Engine() {
+		this(new TranspositionTable(DEFAULT_TABLE_SIZE_MB));
+	}
+
+	/**
+	 * Creates single-threaded engine keeping searched positions in given
+	 * table, which is reused by the following searches
+	 *
+	 * @param table
+	 *            transposition table
+	 */
+	public Engine(TranspositionTable table) {
+		this(table, 1);
+	}
+
+	/**
+	 * Creates engine searching with given number of threads
+	 *
+	 * @param table
+	 *            transposition table shared by the threads
+	 * @param threads
+	 *            number of threads, including the calling one
+	 * @throws IllegalArgumentException
+	 *             in case the number of threads is not positive
+	 */
+	public Engine(TranspositionTable table, int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+		}
+		this.table = table;
+		this.threads = threads;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Searches for the best move of the player to move
+	 *
+	 * @param boardManager
+	 *            manager of the position to search
+	 * @param limits
+	 *            limits of the search; the first iteration is always
+	 *            completed
+	 * @return result of the deepest completed iteration
+	 * @throws IllegalStateException
+	 *             in case the calling thread is interrupted while waiting for
+	 *             helper threads
+	 */
+	public SearchResult search(BoardManager boardManager, SearchLimits limits) {
+		table.newSearch();
+		AtomicBoolean stop = new AtomicBoolean();
+		List<Search> searches = new ArrayList<>(threads);
+		searches.add(new Search(boardManager, limits, table, stop, 0));
+		List<Thread> helpers = new ArrayList<>(threads - 1);
+		for (int worker = 1; worker < threads; worker++) {
+			Search search = new Search(new BoardManager(boardManager), limits, table, stop, worker);
+			searches.add(search);
+			Thread helper = new Thread(search::run, "search-helper-" + worker);
+			helper.setDaemon(true);
+			helpers.add(helper);
+		}
+		helpers.forEach(Thread::start);
+		try {
+			searches.get(0).run();
+		} finally {
+			stop.set(true);
+			joinAll(helpers);
+		}
+		return toResult(boardManager, searches);
+	}
+
+	/**
+	 * Searches for the best move with the limits of the level, see
+	 * {@link SearchLimits#forLevel(Level)}
+	 *
+	 * @param boardManager
+	 *            manager of the position to search
+	 * @param level
+	 *            level of the game
+	 * @return result of the deepest completed iteration
+	 */
+	public SearchResult search(BoardManager boardManager, Level level) {
+		return search(boardManager, SearchLimits.forLevel(level));
+	}
+
+	private static void joinAll(List<Thread> helpers) {
+		for (Thread helper : helpers) {
+			try {
+				helper.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Search interrupted", e);
+			}
+		}
+	}
+
+	private static SearchResult toResult(BoardManager boardManager, List<Search> searches) {
+		Search search = searches.get(0);
+		long nodes = 0;
+		for (Search other : searches) {
+			if (other.getCompletedDepth() > search.getCompletedDepth()) {
+				search = other;
+			}
+			nodes += other.getNodes();
+		}
+		int[] line = search.getBestLine();
+		List<Move> principalVariation = new ArrayList<>(line.length);
+		try {
+			for (int packedMove : line) {
+				principalVariation.add(PackedMove.toMove(packedMove, boardManager.getBoard()));
+				boardManager.makeMove(packedMove);
+			}
+		} finally {
+			for (int i = 0; i < principalVariation.size(); i++) {
+				boardManager.unmakeMove();
+			}
+		}
+		PieceType promotion = line.length == 0 ? null : PackedMove.getPromotion(line[0]);
+		return new SearchResult(principalVariation, promotion, search.getBestScore(), search.getCompletedDepth(),
+				nodes, searches.get(0).getTimeMillis());
+	}
+}
@@ -0,0 +1,82 @@
+package com.capgemini.chess.algorithms.engine;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Static evaluation of a position: material plus small bonuses for well
+ * placed pieces, in centipawns.
+ *
+ * @author TMAZUREK
+ *
+ */
+public final class Evaluator {
+
+	private static final int SQUARES = Board.SIZE * Board.SIZE;
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+	// indexed by piece type ordinal: king, queen, bishop, knight, rook, pawn
+	private static final int[] PIECE_VALUES = { 0, 900, 330, 320, 500, 100 };
+	private static final int[] CENTER_BONUSES = { -10, 2, 5, 10, 0, 0 };
+
+	// bonus of every piece type on every field, from white's point of view
+	private static final int[][] PLACEMENT = new int[PIECE_TYPES.length][SQUARES];
+
+	static {
+		for (int square = 0; square < SQUARES; square++) {
+			int x = square % Board.SIZE;
+			int y = square / Board.SIZE;
+			// 0 for the four central fields, 3 for the edges
+			int distance = Math.max(Math.abs(2 * x - 7), Math.abs(2 * y - 7)) / 2;
+			for (PieceType type : PIECE_TYPES) {
+				PLACEMENT[type.ordinal()][square] = CENTER_BONUSES[type.ordinal()] * (3 - distance);
+			}
+			int centralFile = x == 3 || x == 4 ? 2 : 1;
+			PLACEMENT[PieceType.PAWN.ordinal()][square] = (y - 1) * 5 * centralFile;
+		}
+	}
+
+	private Evaluator() {
+	}
+
+	/**
+	 * Gets value of a piece type
+	 *
+	 * @param type
+	 *            piece type
+	 * @return value in centipawns, 0 for the king
+	 */
+	public static int getPieceValue(PieceType type) {
+		return PIECE_VALUES[type.ordinal()];
+	}
+
+	/**
+	 * Evaluates position from the point of view of the next moving player
+	 *
+	 * @param board
+	 *            chess board
+	 * @return score in centipawns, positive if the next moving player is
+	 *         better
+	 */
+	public static int evaluate(Board board) {
+		int score = 0;
+		for (PieceType type : PIECE_TYPES) {
+			score += evaluate(board.getBitboard(Color.WHITE, type), type, false);
+			score -= evaluate(board.getBitboard(Color.BLACK, type), type, true);
+		}
+		return board.getNextMoveColor() == Color.WHITE ? score : -score;
+	}
+
+	private static int evaluate(long pieces, PieceType type, boolean mirror) {
+		int score = 0;
+		int[] placement = PLACEMENT[type.ordinal()];
+		while (pieces != 0) {
+			int square = Long.numberOfTrailingZeros(pieces);
+			pieces &= pieces - 1;
+			// black pieces use the table of white ones mirrored vertically
+			score += PIECE_VALUES[type.ordinal()] + placement[mirror ? square ^ (SQUARES - Board.SIZE) : square];
+		}
+		return score;
+	}
+}
@@ -0,0 +1,366 @@
+package com.capgemini.chess.algorithms.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.validators.CheckValidator;
+
+/**
+ * Iterative deepening negamax search with alpha-beta pruning and quiescence
+ * search of captures and queen promotions, working on one board manager with
+ * make/unmake. Underpromotions are searched as quiet moves.
+ *
+ * Results of searched positions are kept in a {@link TranspositionTable},
+ * which cuts off positions reached again by another order of moves and gives
+ * the best move to try first when the position is searched deeper.
+ *
+ * Moves are tried in order: the move of the previous principal variation or
+ * the best move from the table, captures of the most valuable pieces by the
+ * least valuable ones, killer moves (quiet moves which caused a cutoff at the
+ * same ply) and the rest.
+ * Positions repeated in the game or the search and positions under the
+ * fifty-move rule are scored as draws.
+ *
+ * Several searches of the same position may run in parallel on copies of the
+ * board sharing one table (Lazy SMP). The main search checks the limits and
+ * always completes its first iteration; helper searches only stop when the
+ * stop flag is set, and every odd helper searches one iteration deeper than
+ * the others, so the helpers fill the table with different parts of the
+ * tree.
+ *
+ * @author TMAZUREK
+ *
+ */
+final class Search {
+
+	static final int MATE = 30000;
+	static final int INFINITY = 32000;
+	static final int MAX_PLY = 2 * SearchLimits.MAX_DEPTH;
+
+	private static final int CHECK_INTERVAL_MASK = 0x3FF;
+	private static final int PV_MOVE_SCORE = 1 << 30;
+	private static final int CAPTURE_SCORE = 1 << 20;
+	private static final int KILLER_SCORE = 1 << 10;
+
+	private final BoardManager boardManager;
+	private final Board board;
+	private final SearchLimits limits;
+	private final TranspositionTable table;
+	private final AtomicBoolean stop;
+	private final boolean helper;
+	private final int depthOffset;
+	private final long startTime;
+	private final long deadline;
+
+	private final int[][] moves = new int[MAX_PLY][BoardManager.MAX_LEGAL_MOVES];
+	private final int[][] moveScores = new int[MAX_PLY][BoardManager.MAX_LEGAL_MOVES];
+	private final int[][] killers = new int[MAX_PLY][2];
+	private final int[][] pv = new int[MAX_PLY][MAX_PLY];
+	private final int[] pvLength = new int[MAX_PLY];
+
+	private int[] bestLine = new int[0];
+	private int bestScore;
+	private int completedDepth;
+	private int currentDepth;
+	private long nodes;
+
+	/**
+	 * Creates search of the position of the board manager, which must not be
+	 * used by anything else until the search ends
+	 *
+	 * @param boardManager
+	 *            manager of the position to search
+	 * @param limits
+	 *            limits of the search
+	 * @param table
+	 *            table of searched positions, may be shared with other
+	 *            searches
+	 * @param stop
+	 *            flag which stops the search when set, set by the main search
+	 *            when it reaches a limit
+	 * @param worker
+	 *            number of the search, 0 for the main search and from 1 for
+	 *            helper searches
+	 */
+	Search(BoardManager boardManager, SearchLimits limits, TranspositionTable table, AtomicBoolean stop,
+			int worker) {
+		this.boardManager = boardManager;
+		this.board = boardManager.getBoard();
+		this.limits = limits;
+		this.table = table;
+		this.stop = stop;
+		this.helper = worker > 0;
+		this.depthOffset = worker % 2;
+		this.startTime = System.nanoTime();
+		this.deadline = limits.getMaxTimeMillis() > 0
+				? startTime + TimeUnit.MILLISECONDS.toNanos(limits.getMaxTimeMillis()) : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Searches with growing depth until a limit is reached or a forced mate
+	 * is found
+	 */
+	void run() {
+		for (int depth = 1 + depthOffset; depth <= limits.getMaxDepth(); depth++) {
+			currentDepth = depth;
+			int score = negamax(depth, -INFINITY, INFINITY, 0, true);
+			if (isAborted()) {
+				break;
+			}
+			bestScore = score;
+			completedDepth = depth;
+			bestLine = new int[pvLength[0]];
+			System.arraycopy(pv[0], 0, bestLine, 0, bestLine.length);
+			if (Math.abs(score) >= MATE - MAX_PLY) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Gets principal variation of the last completed iteration
+	 *
+	 * @return packed moves, the best one first
+	 */
+	int[] getBestLine() {
+		return bestLine;
+	}
+
+	int getBestScore() {
+		return bestScore;
+	}
+
+	int getCompletedDepth() {
+		return completedDepth;
+	}
+
+	long getNodes() {
+		return nodes;
+	}
+
+	long getTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+	}
+
+	private int negamax(int depth, int alpha, int beta, int ply, boolean onPv) {
+		pvLength[ply] = ply;
+		if (ply > 0 && isDraw()) {
+			return 0;
+		}
+		if (depth <= 0 || ply >= MAX_PLY - 1) {
+			return quiesce(alpha, beta, ply);
+		}
+		if (countNode()) {
+			return 0;
+		}
+
+		long key = board.getPositionKey();
+		long entry = table.probe(key);
+		int tableMove = 0;
+		if (entry != 0) {
+			tableMove = TranspositionTable.getMove(entry);
+			if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+				int score = fromTableScore(TranspositionTable.getScore(entry), ply);
+				int bound = TranspositionTable.getBound(entry);
+				if (bound == TranspositionTable.BOUND_EXACT
+						|| (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+						|| (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+					return score;
+				}
+			}
+		}
+
+		int count = boardManager.generateLegalMoves(moves[ply]);
+		if (count == 0) {
+			return CheckValidator.isInCheck(board.getNextMoveColor(), board) ? -MATE + ply : 0;
+		}
+		scoreMoves(ply, count, onPv && ply < bestLine.length ? bestLine[ply] : tableMove);
+
+		int originalAlpha = alpha;
+		int best = -INFINITY;
+		int bestMove = 0;
+		for (int i = 0; i < count; i++) {
+			int move = selectMove(ply, i, count);
+			boardManager.makeMove(move);
+			int score = -negamax(depth - 1, -beta, -alpha, ply + 1,
+					onPv && ply < bestLine.length && move == bestLine[ply]);
+			boardManager.unmakeMove();
+			if (isAborted()) {
+				return 0;
+			}
+			if (score > best) {
+				best = score;
+				bestMove = move;
+				if (score > alpha) {
+					alpha = score;
+					updatePv(ply, move);
+				}
+			}
+			if (alpha >= beta) {
+				if (!isCapture(move)) {
+					addKiller(ply, move);
+				}
+				break;
+			}
+		}
+		int bound = best >= beta ? TranspositionTable.BOUND_LOWER
+				: best > originalAlpha ? TranspositionTable.BOUND_EXACT : TranspositionTable.BOUND_UPPER;
+		table.store(key, bestMove, toTableScore(best, ply), depth, bound);
+		return best;
+	}
+
+	private int quiesce(int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+		if (countNode()) {
+			return 0;
+		}
+		int standPat = Evaluator.evaluate(board);
+		if (standPat >= beta || ply >= MAX_PLY - 1) {
+			return standPat;
+		}
+		if (standPat > alpha) {
+			alpha = standPat;
+		}
+
+		int count = boardManager.generateLegalMoves(moves[ply]);
+		int captures = 0;
+		for (int i = 0; i < count; i++) {
+			int move = moves[ply][i];
+			if (isCapture(move) || isQueenPromotion(move)) {
+				moves[ply][captures++] = move;
+			}
+		}
+		scoreMoves(ply, captures, 0);
+
+		for (int i = 0; i < captures; i++) {
+			int move = selectMove(ply, i, captures);
+			boardManager.makeMove(move);
+			int score = -quiesce(-beta, -alpha, ply + 1);
+			boardManager.unmakeMove();
+			if (isAborted()) {
+				return 0;
+			}
+			if (score >= beta) {
+				return score;
+			}
+			if (score > alpha) {
+				alpha = score;
+				updatePv(ply, move);
+			}
+		}
+		return alpha;
+	}
+
+	/**
+	 * Converts mate score to distance to mate from the position, so it can be
+	 * reused at another ply
+	 */
+	private static int toTableScore(int score, int ply) {
+		return score >= MATE - MAX_PLY ? score + ply : score <= -MATE + MAX_PLY ? score - ply : score;
+	}
+
+	private static int fromTableScore(int score, int ply) {
+		return score >= MATE - MAX_PLY ? score - ply : score <= -MATE + MAX_PLY ? score + ply : score;
+	}
+
+	private boolean isDraw() {
+		return board.getHalfmoveClock() >= 100 || board.countRepetitions() >= 2;
+	}
+
+	/**
+	 * Counts visited position and checks the limits; the first iteration is
+	 * always completed
+	 *
+	 * @return true if the search should stop
+	 */
+	private boolean countNode() {
+		nodes++;
+		if (helper) {
+			return stop.get();
+		}
+		if (currentDepth == 1) {
+			return false;
+		}
+		if ((limits.getMaxNodes() > 0 && nodes >= limits.getMaxNodes())
+				|| ((nodes & CHECK_INTERVAL_MASK) == 0 && System.nanoTime() > deadline)) {
+			stop.set(true);
+		}
+		return isAborted();
+	}
+
+	private boolean isAborted() {
+		return (helper || currentDepth > 1) && stop.get();
+	}
+
+	private void scoreMoves(int ply, int count, int pvMove) {
+		int[] plyMoves = moves[ply];
+		int[] scores = moveScores[ply];
+		for (int i = 0; i < count; i++) {
+			int move = plyMoves[i];
+			if (move == pvMove) {
+				scores[i] = PV_MOVE_SCORE;
+			} else if (isCapture(move)) {
+				Piece attacker = board.getPieceAt(PackedMove.getFrom(move));
+				Piece victim = board.getPieceAt(PackedMove.getTo(move));
+				int victimValue = victim == null ? Evaluator.getPieceValue(attacker.getType())
+						: Evaluator.getPieceValue(victim.getType());
+				scores[i] = CAPTURE_SCORE + victimValue * 16 - Evaluator.getPieceValue(attacker.getType()) / 16;
+			} else if (move == killers[ply][0] || move == killers[ply][1]) {
+				scores[i] = KILLER_SCORE;
+			} else {
+				scores[i] = isQueenPromotion(move) ? CAPTURE_SCORE : 0;
+			}
+		}
+	}
+
+	/**
+	 * Moves the best scored of the remaining moves to the given index
+	 * (selection sort step, so moves after a cutoff are never sorted)
+	 */
+	private int selectMove(int ply, int index, int count) {
+		int[] plyMoves = moves[ply];
+		int[] scores = moveScores[ply];
+		int best = index;
+		for (int i = index + 1; i < count; i++) {
+			if (scores[i] > scores[best]) {
+				best = i;
+			}
+		}
+		int move = plyMoves[best];
+		plyMoves[best] = plyMoves[index];
+		plyMoves[index] = move;
+		int score = scores[best];
+		scores[best] = scores[index];
+		scores[index] = score;
+		return move;
+	}
+
+	private void updatePv(int ply, int move) {
+		pv[ply][ply] = move;
+		int length = pvLength[ply + 1];
+		System.arraycopy(pv[ply + 1], ply + 1, pv[ply], ply + 1, length - ply - 1);
+		pvLength[ply] = Math.max(length, ply + 1);
+	}
+
+	private void addKiller(int ply, int move) {
+		if (killers[ply][0] != move) {
+			killers[ply][1] = killers[ply][0];
+			killers[ply][0] = move;
+		}
+	}
+
+	private static boolean isCapture(int move) {
+		MoveType type = PackedMove.getType(move);
+		return type == MoveType.CAPTURE || type == MoveType.EN_PASSANT;
+	}
+
+	private static boolean isQueenPromotion(int move) {
+		return PackedMove.getPromotion(move) == PieceType.QUEEN;
+	}
+}
@@ -0,0 +1,82 @@
+package com.capgemini.chess.algorithms.engine;
+
+import com.capgemini.chess.algorithms.data.enums.Level;
+
+/**
+ * Limits of a search: maximal depth, time and number of nodes. The search
+ * stops at whichever limit is reached first; the first iteration is always
+ * completed, so there is a move to play.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class SearchLimits {
+
+	/**
+	 * Maximal depth of the iterative deepening
+	 */
+	public static final int MAX_DEPTH = 64;
+
+	private final int maxDepth;
+	private final long maxTimeMillis;
+	private final long maxNodes;
+
+	/**
+	 * Creates limits
+	 *
+	 * @param maxDepth
+	 *            maximal depth in half-moves, at most {@link #MAX_DEPTH}
+	 * @param maxTimeMillis
+	 *            maximal time in milliseconds, 0 for no limit
+	 * @param maxNodes
+	 *            maximal number of visited positions, 0 for no limit
+	 */
+	public SearchLimits(int maxDepth, long maxTimeMillis, long maxNodes) {
+		if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+			throw new IllegalArgumentException("Depth must be between 1 and " + MAX_DEPTH);
+		}
+		if (maxTimeMillis < 0 || maxNodes < 0) {
+			throw new IllegalArgumentException("Limits cannot be negative");
+		}
+		this.maxDepth = maxDepth;
+		this.maxTimeMillis = maxTimeMillis;
+		this.maxNodes = maxNodes;
+	}
+
+	public static SearchLimits depth(int maxDepth) {
+		return new SearchLimits(maxDepth, 0, 0);
+	}
+
+	public static SearchLimits time(long maxTimeMillis) {
+		return new SearchLimits(MAX_DEPTH, maxTimeMillis, 0);
+	}
+
+	public static SearchLimits nodes(long maxNodes) {
+		return new SearchLimits(MAX_DEPTH, 0, maxNodes);
+	}
+
+	/**
+	 * Gets limits of a computer opponent playing at the level: the depth
+	 * grows with the level, the time is capped at a quarter of a second per
+	 * level
+	 *
+	 * @param level
+	 *            level of the player
+	 * @return search limits
+	 */
+	public static SearchLimits forLevel(Level level) {
+		return new SearchLimits(level.getValue(), 250L * level.getValue(), 0);
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public long getMaxTimeMillis() {
+		return maxTimeMillis;
+	}
+
+	public long getMaxNodes() {
+		return maxNodes;
+	}
+}
@@ -0,0 +1,108 @@
+package com.capgemini.chess.algorithms.engine;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Result of a search: the best move with its principal variation, score and
+ * statistics
+ *
+ * @author TMAZUREK
+ *
+ */
+public class SearchResult {
+
+	private final List<Move> principalVariation;
+	private final PieceType promotion;
+	private final int score;
+	private final int depth;
+	private final long nodes;
+	private final long timeMillis;
+
+	public SearchResult(List<Move> principalVariation, PieceType promotion, int score, int depth, long nodes,
+			long timeMillis) {
+		this.principalVariation = Collections.unmodifiableList(principalVariation);
+		this.promotion = promotion;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.timeMillis = timeMillis;
+	}
+
+	/**
+	 * Gets the best move found
+	 *
+	 * @return move or null if the player has no legal move
+	 */
+	public Move getBestMove() {
+		return principalVariation.isEmpty() ? null : principalVariation.get(0);
+	}
+
+	/**
+	 * Gets piece to which the best move promotes a pawn
+	 *
+	 * @return type of the piece or null if the best move is not a promotion
+	 */
+	public PieceType getPromotion() {
+		return promotion;
+	}
+
+	/**
+	 * Gets moves expected to be played by both players, starting with the
+	 * best move
+	 *
+	 * @return unmodifiable list of moves
+	 */
+	public List<Move> getPrincipalVariation() {
+		return principalVariation;
+	}
+
+	/**
+	 * Gets score of the best move from the point of view of the moving
+	 * player, see {@link #isMate()}
+	 *
+	 * @return score in centipawns
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Checks if the score means a forced mate, won if the score is positive
+	 *
+	 * @return true if the score is a mate score
+	 */
+	public boolean isMate() {
+		return Math.abs(score) >= Search.MATE - Search.MAX_PLY;
+	}
+
+	/**
+	 * Gets depth of the last completed iteration
+	 *
+	 * @return depth in half-moves
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getTimeMillis() {
+		return timeMillis;
+	}
+
+	public long getNodesPerSecond() {
+		return nodes * 1000 / Math.max(1, timeMillis);
+	}
+
+	@Override
+	public String toString() {
+		return "SearchResult [bestMove=" + getBestMove() + ", score=" + score + ", depth=" + depth + ", nodes="
+				+ nodes + ", nps=" + getNodesPerSecond() + "]";
+	}
+}
@@ -0,0 +1,178 @@
+package com.capgemini.chess.algorithms.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Fixed-size hash table of searched positions, keyed by
+ * {@link Board#getPositionKey()}. Entries are kept off-heap in direct
+ * buffers, so even a table of many gigabytes adds nothing to the work of the
+ * garbage collector.
+ *
+ * The table is divided into buckets of two entries: the first one is kept for
+ * the deepest search of the current search generation, the second one is
+ * always replaced. An entry is two longs, the key XOR-ed with the data and
+ * the data itself, with depth, bound, score, best move and generation packed
+ * into the data long (see the static getters).
+ *
+ * The table has no locks and may be shared by concurrent searches. Two
+ * threads writing the same entry at once can leave it with the key of one
+ * and the data of the other, but then the key no longer matches the stored
+ * XOR and {@link #probe(long)} treats the entry as missing.
+ *
+ * @author TMAZUREK
+ *
+ */
+public final class TranspositionTable {
+
+	/** Score is exact */
+	public static final int BOUND_EXACT = 1;
+	/** Score is a lower bound, the search failed high */
+	public static final int BOUND_LOWER = 2;
+	/** Score is an upper bound, the search failed low */
+	public static final int BOUND_UPPER = 3;
+
+	private static final int ENTRY_SIZE = 16;
+	private static final int BUCKET_SIZE = 2 * ENTRY_SIZE;
+	private static final int SEGMENT_SHIFT = 30;
+	private static final int BUCKETS_PER_SEGMENT_SHIFT = SEGMENT_SHIFT - Integer.numberOfTrailingZeros(BUCKET_SIZE);
+	private static final long BUCKET_OFFSET_MASK = (1L << BUCKETS_PER_SEGMENT_SHIFT) - 1;
+
+	private static final int SCORE_SHIFT = PackedMove.BITS;
+	private static final int DEPTH_SHIFT = SCORE_SHIFT + 16;
+	private static final int BOUND_SHIFT = DEPTH_SHIFT + 8;
+	private static final int GENERATION_SHIFT = BOUND_SHIFT + 2;
+	private static final long MOVE_MASK = (1L << PackedMove.BITS) - 1;
+
+	private final ByteBuffer[] segments;
+	private final long bucketMask;
+	private int generation;
+
+	/**
+	 * Creates table of given size, rounded down to a power of two
+	 *
+	 * @param sizeMb
+	 *            size of the table in megabytes
+	 * @throws IllegalArgumentException
+	 *             in case the size is not positive
+	 */
+	public TranspositionTable(int sizeMb) {
+		if (sizeMb <= 0) {
+			throw new IllegalArgumentException("Table size must be positive: " + sizeMb);
+		}
+		long bucketCount = Long.highestOneBit((long) sizeMb << 20) / BUCKET_SIZE;
+		long segmentBuckets = Math.min(bucketCount, 1L << BUCKETS_PER_SEGMENT_SHIFT);
+		this.segments = new ByteBuffer[(int) (bucketCount / segmentBuckets)];
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = ByteBuffer.allocateDirect((int) (segmentBuckets * BUCKET_SIZE))
+					.order(ByteOrder.nativeOrder());
+		}
+		this.bucketMask = bucketCount - 1;
+	}
+
+	/**
+	 * Starts next search generation, after which entries of earlier searches
+	 * are replaced first
+	 */
+	public void newSearch() {
+		generation = (generation + 1) & 0xFF;
+	}
+
+	/**
+	 * Finds entry of the position
+	 *
+	 * @param key
+	 *            hash of the position
+	 * @return data of the entry or 0 if there is no entry of the position
+	 */
+	public long probe(long key) {
+		long bucket = key & bucketMask;
+		ByteBuffer segment = segments[(int) (bucket >>> BUCKETS_PER_SEGMENT_SHIFT)];
+		int offset = (int) (bucket & BUCKET_OFFSET_MASK) * BUCKET_SIZE;
+		for (int entry = offset; entry < offset + BUCKET_SIZE; entry += ENTRY_SIZE) {
+			long data = segment.getLong(entry + 8);
+			if ((segment.getLong(entry) ^ data) == key) {
+				return data;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Stores result of the search of the position
+	 *
+	 * @param key
+	 *            hash of the position
+	 * @param move
+	 *            best packed move or 0 if not known
+	 * @param score
+	 *            score of the position
+	 * @param depth
+	 *            depth of the search, from 0 to 255
+	 * @param bound
+	 *            one of {@link #BOUND_EXACT}, {@link #BOUND_LOWER},
+	 *            {@link #BOUND_UPPER}
+	 */
+	public void store(long key, int move, int score, int depth, int bound) {
+		long bucket = key & bucketMask;
+		ByteBuffer segment = segments[(int) (bucket >>> BUCKETS_PER_SEGMENT_SHIFT)];
+		int offset = (int) (bucket & BUCKET_OFFSET_MASK) * BUCKET_SIZE;
+
+		long deepData = segment.getLong(offset + 8);
+		boolean sameKey = (segment.getLong(offset) ^ deepData) == key;
+		if (sameKey && move == 0) {
+			// keep the best move found by an earlier search of the position
+			move = getMove(deepData);
+		}
+		int entry = sameKey || getGeneration(deepData) != generation || depth >= getDepth(deepData) ? offset
+				: offset + ENTRY_SIZE;
+
+		long data = (move & MOVE_MASK) | (long) (score & 0xFFFF) << SCORE_SHIFT | (long) depth << DEPTH_SHIFT
+				| (long) bound << BOUND_SHIFT | (long) generation << GENERATION_SHIFT;
+		segment.putLong(entry, key ^ data);
+		segment.putLong(entry + 8, data);
+	}
+
+	/**
+	 * Removes all entries
+	 */
+	public void clear() {
+		for (ByteBuffer segment : segments) {
+			for (int i = 0; i < segment.capacity(); i += 8) {
+				segment.putLong(i, 0L);
+			}
+		}
+	}
+
+	/**
+	 * Gets size of the table
+	 *
+	 * @return size in bytes
+	 */
+	public long getSizeBytes() {
+		return (bucketMask + 1) * BUCKET_SIZE;
+	}
+
+	public static int getMove(long data) {
+		return (int) (data & MOVE_MASK);
+	}
+
+	public static int getScore(long data) {
+		return (short) (data >>> SCORE_SHIFT);
+	}
+
+	public static int getDepth(long data) {
+		return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+	}
+
+	public static int getBound(long data) {
+		return (int) (data >>> BOUND_SHIFT) & 0x3;
+	}
+
+	private static int getGeneration(long data) {
+		return (int) (data >>> GENERATION_SHIFT) & 0xFF;
+	}
+}
@@ -1,19 +1,23 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.BoardSnapshot;
+import com.capgemini.chess.algorithms.data.generated.MoveHistory;
 import com.capgemini.chess.algorithms.data.pieces.*;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
+import com.capgemini.chess.algorithms.serialization.FenSerializer;
+import com.capgemini.chess.algorithms.validators.AttackTables;
 import com.capgemini.chess.algorithms.validators.CheckValidator;
 
 /**
@@ -24,21 +28,83 @@ import com.capgemini.chess.algorithms.validators.CheckValidator;
  */
 public class BoardManager {
 
+	/**
+	 * Size of a move buffer which is always enough to hold all legal moves of
+	 * a position
+	 */
+	public static final int MAX_LEGAL_MOVES = 256;
+
+	// castling rights from before the move are kept above the packed move
+	private static final int UNDO_CASTLING_SHIFT = PackedMove.BITS;
+	private static final int UNDO_MOVE_MASK = (1 << PackedMove.BITS) - 1;
+	private static final PieceType[] PROMOTIONS = { PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP,
+			PieceType.KNIGHT };
+
 	private Board board = new Board();
 
+	// undo stack: packed move with castling rights from before the move, and
+	// the piece captured by the move (null if there is none)
+	private int[] undoEntries = new int[64];
+	private Piece[] undoCaptures = new Piece[64];
+	private int undoCount;
+
+	// state calculated for the position with the given key, dropped when a
+	// move is made or taken back; the key also guards against changes made
+	// directly on the board
+	private BoardState cachedState;
+	private long cachedStateKey;
+
+	// position after the last committed move, for readers in other threads;
+	// moves below the given history size were not taken back since then
+	private volatile BoardSnapshot snapshot;
+	private int unchangedHistorySize;
+
 	public BoardManager() {
 		initBoard();
+		this.board.recordPosition(true);
+		publishSnapshot();
 	}
 
 	public BoardManager(List<Move> moves) {
 		initBoard();
+		this.board.recordPosition(true);
 		for (Move move : moves) {
-			addMove(move);
+			makeMove(move);
 		}
+		publishSnapshot();
 	}
 
 	public BoardManager(Board board) {
 		this.board = board;
+		this.board.recordPosition(true);
+		publishSnapshot();
+	}
+
+	/**
+	 * Creates manager of a copy of the board of another manager, which is
+	 * not changed. Moves made before the copy cannot be taken back on the
+	 * copy, but repetitions of earlier positions are still detected.
+	 *
+	 * @param other
+	 *            manager to copy
+	 */
+	public BoardManager(BoardManager other) {
+		this.board = new Board(other.board);
+		publishSnapshot();
+	}
+
+	/**
+	 * Creates manager of the position given in Forsyth-Edwards Notation, with
+	 * side to move, castling rights, en passant file and move counters
+	 * restored, so a game can be resumed without replaying its moves
+	 *
+	 * @param fen
+	 *            position in Forsyth-Edwards Notation
+	 * @throws IllegalArgumentException
+	 *             in case the text is not a valid FEN
+	 */
+	public BoardManager(String fen) {
+		this(FenSerializer.read(fen));
 	}
 
 	/**
@@ -66,68 +132,188 @@ public class BoardManager {
 
 		Move move = validateMove(from, to);
 
-		addMove(move);
-		board.getPieceAt(to).setMoved();
+		makeMove(move);
+		publishSnapshot();
 
 		return move;
 	}
 
 	/**
-	 * Calculates state of the chess board.
+	 * Gets immutable snapshot of the position after the last committed move.
+	 * The snapshot is published without locks, so it can be read from any
+	 * thread while the game goes on.
 	 *
-	 * @return state of the chess board
+	 * @return snapshot of the board
 	 */
-	public BoardState updateBoardState() {
+	public BoardSnapshot getSnapshot() {
+		return snapshot;
+	}
 
-		Color nextMoveColor = calculateNextMoveColor();
+	/**
+	 * Publishes snapshot of the current position. It is done by
+	 * {@link #performMove(Coordinate, Coordinate)}; moves made with
+	 * {@link #makeMove(Move)} or taken back with {@link #unmakeMove()} are
+	 * visible in snapshots only after they are committed with this method.
+	 */
+	public void publishSnapshot() {
+		MoveHistory moveHistory = this.board.getMoveHistory();
+		this.snapshot = BoardSnapshot.of(this.board, this.snapshot, this.unchangedHistorySize);
+		this.unchangedHistorySize = moveHistory.size();
+	}
 
-		boolean isKingInCheck = isKingInCheck(nextMoveColor);
-		boolean isAnyMoveValid = isAnyMoveValid(nextMoveColor);
+	/**
+	 * Makes move on the chess board without validating it. Captures, castling,
+	 * en passant and promotion are handled according to the move type. The
+	 * move can be taken back with {@link #unmakeMove()}.
+	 *
+	 * @param move
+	 *            move to make
+	 */
+	public void makeMove(Move move) {
 
-		BoardState boardState;
-		if (isKingInCheck) {
-			if (isAnyMoveValid) {
-				boardState = BoardState.CHECK;
-			} else {
-				boardState = BoardState.CHECK_MATE;
-			}
-		} else {
-			if (isAnyMoveValid) {
-				boardState = BoardState.REGULAR;
-			} else {
-				boardState = BoardState.STALE_MATE;
+		Piece movedPiece = board.getPieceAt(move.getFrom());
+		int from = Board.square(move.getFrom());
+		int to = Board.square(move.getTo());
+		makeMove(PackedMove.pack(from, to, move.getType(), getPromotion(movedPiece, to)));
+	}
+
+	/**
+	 * Makes move on the chess board without validating it, e.g. a move
+	 * generated by {@link #generateLegalMoves(int[])}. The move can be taken
+	 * back with {@link #unmakeMove()}.
+	 *
+	 * @param packedMove
+	 *            move packed into an int
+	 */
+	public void makeMove(int packedMove) {
+
+		Piece movedPiece = this.board.getPieceAt(PackedMove.getFrom(packedMove));
+		applyMove(packedMove);
+
+		this.board.getMoveHistory().addPacked(packedMove, movedPiece);
+		this.board.recordPosition(PackedMove.getType(packedMove) != MoveType.ATTACK);
+		this.cachedState = null;
+	}
+
+	/**
+	 * Takes back the last move made by this manager, restoring the captured
+	 * piece, castling rights and en passant possibility from before the move.
+	 *
+	 * @return move which was taken back
+	 * @throws IllegalStateException
+	 *             in case there is no move to take back
+	 */
+	public Move unmakeMove() {
+
+		if (undoCount == 0) {
+			throw new IllegalStateException("No move to take back");
+		}
+
+		MoveHistory moveHistory = this.board.getMoveHistory();
+		Move move = moveHistory.remove(moveHistory.size() - 1);
+		this.unchangedHistorySize = Math.min(this.unchangedHistorySize, moveHistory.size());
+		this.board.unrecordPosition();
+		revertMove();
+		this.cachedState = null;
+
+		return move;
+	}
+
+	/**
+	 * Validates move of the chess piece from one field to another without
+	 * performing it. Unlike {@link #performMove(Coordinate, Coordinate)} it
+	 * does not throw exceptions for rejected moves, so it is cheap to call
+	 * for many candidate moves.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return move object which includes moved piece and move type or null in
+	 *         case move is not valid
+	 */
+	public Move tryValidateMove(Coordinate from, Coordinate to) {
+
+		Move result = findPieceMove(from, to);
+		if (result == null || !isLegal(pack(result), getKingSafety(calculateNextMoveColor()))) {
+			return null;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Generates all legal moves of the player who moves next. Moves are
+	 * written to the given buffer as packed ints (see {@link PackedMove}), so
+	 * no objects are created for them.
+	 *
+	 * @param moves
+	 *            buffer for generated moves, at least {@link #MAX_LEGAL_MOVES}
+	 *            long
+	 * @return number of moves written to the buffer
+	 */
+	public int generateLegalMoves(int[] moves) {
+
+		Color nextMoveColor = calculateNextMoveColor();
+		KingSafety kingSafety = getKingSafety(nextMoveColor);
+		int count = 0;
+
+		long ownPieces = board.getOccupancy(nextMoveColor);
+		while (ownPieces != 0) {
+			int from = Long.numberOfTrailingZeros(ownPieces);
+			ownPieces &= ownPieces - 1;
+			Piece piece = board.getPieceAt(from);
+
+			long targets = piece.getTargets(board, from);
+			while (targets != 0) {
+				int to = Long.numberOfTrailingZeros(targets);
+				targets &= targets - 1;
+				MoveType type = MoveTypeChecker.getMoveType(piece, board, from, to);
+				int move = PackedMove.pack(from, to, type, null);
+				if (!isLegal(move, kingSafety)) {
+					continue;
+				}
+				if (getPromotion(piece, to) == null) {
+					moves[count++] = move;
+				} else {
+					for (PieceType promotion : PROMOTIONS) {
+						moves[count++] = PackedMove.pack(from, to, type, promotion);
+					}
+				}
 			}
 		}
-		this.board.setState(boardState);
-		return boardState;
+		return count;
+	}
+
+	/**
+	 * Calculates state of the chess board. The state is calculated once per
+	 * position, so repeated calls without moves in between are cheap.
+	 *
+	 * @return state of the chess board
+	 */
+	public BoardState updateBoardState() {
+
+		long positionKey = this.board.getPositionKey();
+		if (cachedState == null || cachedStateKey != positionKey) {
+			cachedState = calculateBoardState();
+			cachedStateKey = positionKey;
+		}
+		this.board.setState(cachedState);
+		return cachedState;
 	}
 
 	/**
 	 * Checks threefold repetition rule (one of the conditions to end the chess
 	 * game with a draw).
 	 *
-	 * @return true if current state repeated at list two times, false otherwise
+	 * @return true if current state occurred at least three times, false
+	 *         otherwise
 	 */
 	public boolean checkThreefoldRepetitionRule() {
 
-		// there is no need to check moves that where before last capture/en
-		// passant/castling
-		int lastNonAttackMoveIndex = findLastNonAttackMoveIndex();
-		List<Move> omittedMoves = this.board.getMoveHistory().subList(0, lastNonAttackMoveIndex);
-		BoardManager simulatedBoardManager = new BoardManager(omittedMoves);
-
-		int counter = 0;
-		for (int i = lastNonAttackMoveIndex; i < this.board.getMoveHistory().size(); i++) {
-			Move moveToAdd = this.board.getMoveHistory().get(i);
-			simulatedBoardManager.addMove(moveToAdd);
-			boolean areBoardsEqual = Arrays.deepEquals(this.board.getPieces(),
-					simulatedBoardManager.getBoard().getPieces());
-			if (areBoardsEqual) {
-				counter++;
-			}
-		}
-
-		return counter >= 2;
+		// position keys are recorded after every move; keys from before the
+		// last capture/en passant/castling are not taken into account
+		return this.board.countRepetitions() >= 3;
 	}
 
 	/**
@@ -141,209 +327,329 @@ public class BoardManager {
 
 		// for this purpose a "move" consists of a player completing his turn
 		// followed by his opponent completing his turn
-		if (this.board.getMoveHistory().size() < 100) {
-			return false;
-		}
+		return this.board.getHalfmoveClock() >= 100;
+	}
 
-		for (int i = this.board.getMoveHistory().size() - 1; i >= this.board.getMoveHistory().size() - 100; i--) {
-			Move currentMove = this.board.getMoveHistory().get(i);
-			PieceType currentPieceType = currentMove.getMovedPiece().getType();
-			if (currentMove.getType() != MoveType.ATTACK || currentPieceType == PieceType.PAWN) {
-				return false;
+	// PRIVATE
+
+	private BoardState calculateBoardState() {
+
+		Color nextMoveColor = calculateNextMoveColor();
+		KingSafety kingSafety = getKingSafety(nextMoveColor);
+
+		boolean isKingInCheck = kingSafety.checkers != 0;
+		boolean isAnyMoveValid = isAnyMoveValid(nextMoveColor, kingSafety);
+
+		BoardState boardState;
+		if (isKingInCheck) {
+			if (isAnyMoveValid) {
+				boardState = BoardState.CHECK;
+			} else {
+				boardState = BoardState.CHECK_MATE;
+			}
+		} else {
+			if (isAnyMoveValid) {
+				boardState = BoardState.REGULAR;
+			} else {
+				boardState = BoardState.STALE_MATE;
 			}
 		}
-
-		return true;
+		return boardState;
 	}
 
-	// PRIVATE
-
 	private void initBoard() {
 
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(1, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(2, 7));
-		this.board.setPieceAt(new Queen(Color.BLACK), new Coordinate(3, 7));
-		this.board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(5, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(6, 7));
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.ROOK), Coordinate.of(0, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.KNIGHT), Coordinate.of(1, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.BISHOP), Coordinate.of(2, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.QUEEN), Coordinate.of(3, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.KING), Coordinate.of(4, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.BISHOP), Coordinate.of(5, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.KNIGHT), Coordinate.of(6, 7));
+		this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.ROOK), Coordinate.of(7, 7));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(x, 6));
+			this.board.setPieceAt(Pieces.of(Color.BLACK, PieceType.PAWN), Coordinate.of(x, 6));
 		}
 
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(2, 0));
-		this.board.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 0));
-		this.board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(5, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(6, 0));
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.ROOK), Coordinate.of(0, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.KNIGHT), Coordinate.of(1, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.BISHOP), Coordinate.of(2, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.QUEEN), Coordinate.of(3, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.KING), Coordinate.of(4, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.BISHOP), Coordinate.of(5, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.KNIGHT), Coordinate.of(6, 0));
+		this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.ROOK), Coordinate.of(7, 0));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(x, 1));
+			this.board.setPieceAt(Pieces.of(Color.WHITE, PieceType.PAWN), Coordinate.of(x, 1));
 		}
 	}
 
-	private void addMove(Move move) {
-
-		addRegularMove(move);
-
-		if (move.getType() == MoveType.CASTLING) {
-			addCastling(move);
-		} else if (move.getType() == MoveType.EN_PASSANT) {
-			addEnPassant(move);
+	/**
+	 * Changes pieces on the board according to the move and pushes the entry
+	 * needed to revert it to the undo stack
+	 */
+	private void applyMove(int packedMove) {
+
+		int from = PackedMove.getFrom(packedMove);
+		int to = PackedMove.getTo(packedMove);
+		MoveType type = PackedMove.getType(packedMove);
+		int capturedSquare = getCapturedSquare(from, to, type);
+		Piece movedPiece = this.board.getPieceAt(from);
+
+		pushUndo(packedMove | this.board.getCastlingRights() << UNDO_CASTLING_SHIFT,
+				this.board.getPieceAt(capturedSquare));
+
+		this.board.setPieceAt(null, capturedSquare);
+		this.board.setPieceAt(null, from);
+		PieceType promotion = PackedMove.getPromotion(packedMove);
+		if (promotion != null) {
+			this.board.setPieceAt(Pieces.of(movedPiece.getColor(), promotion), to);
+		} else {
+			this.board.setPieceAt(movedPiece, to);
 		}
 
-		this.board.getMoveHistory().add(move);
+		if (type == MoveType.CASTLING) {
+			moveCastlingRook(from, to, false);
+		}
+		this.board.clearCastlingRights(from);
+		this.board.clearCastlingRights(to);
 	}
 
-	private void addRegularMove(Move move) {
-		Piece movedPiece = this.board.getPieceAt(move.getFrom());
-		this.board.setPieceAt(null, move.getFrom());
-		this.board.setPieceAt(movedPiece, move.getTo());
+	/**
+	 * Reverts the move from the top of the undo stack
+	 */
+	private void revertMove() {
+
+		int entry = undoEntries[--undoCount];
+		Piece capturedPiece = undoCaptures[undoCount];
+		undoCaptures[undoCount] = null;
+
+		int packedMove = entry & UNDO_MOVE_MASK;
+		int from = PackedMove.getFrom(packedMove);
+		int to = PackedMove.getTo(packedMove);
+		MoveType type = PackedMove.getType(packedMove);
+		Piece movedPiece = this.board.getPieceAt(to);
+		if (PackedMove.getPromotion(packedMove) != null) {
+			movedPiece = Pieces.of(movedPiece.getColor(), PieceType.PAWN);
+		}
+
+		if (type == MoveType.CASTLING) {
+			moveCastlingRook(from, to, true);
+		}
 
-		performPromotion(move, movedPiece);
+		this.board.setPieceAt(null, to);
+		this.board.setPieceAt(capturedPiece, getCapturedSquare(from, to, type));
+		this.board.setPieceAt(movedPiece, from);
+		this.board.setCastlingRights(entry >>> UNDO_CASTLING_SHIFT);
 	}
 
-	private void performPromotion(Move move, Piece movedPiece) {
-		if (movedPiece.getType() == PieceType.PAWN && movedPiece.getColor() == Color.WHITE
-				&& move.getTo().getY() == (Board.SIZE - 1)) {
-			this.board.setPieceAt(new Queen(Color.WHITE), move.getTo());
-		}
-		if (movedPiece.getType() == PieceType.PAWN && movedPiece.getColor() == Color.BLACK
-				&& move.getTo().getY() == 0) {
-			this.board.setPieceAt(new Queen(Color.BLACK), move.getTo());
+	private void pushUndo(int entry, Piece capturedPiece) {
+		if (undoCount == undoEntries.length) {
+			undoEntries = Arrays.copyOf(undoEntries, undoCount * 2);
+			undoCaptures = Arrays.copyOf(undoCaptures, undoCount * 2);
 		}
+		undoEntries[undoCount] = entry;
+		undoCaptures[undoCount] = capturedPiece;
+		undoCount++;
 	}
 
-	private void addCastling(Move move) {
-		if (move.getFrom().getX() > move.getTo().getX()) {
-			Piece rook = this.board.getPieceAt(new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() + 1, move.getTo().getY()));
-		} else {
-			Piece rook = this.board.getPieceAt(new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() - 1, move.getTo().getY()));
+	private int getCapturedSquare(int from, int to, MoveType type) {
+		// pawn captured en passant stands next to the 'from' field
+		if (type == MoveType.EN_PASSANT) {
+			return from - from % Board.SIZE + to % Board.SIZE;
 		}
+		return to;
 	}
 
-	private void addEnPassant(Move move) {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		this.board.setPieceAt(null, lastMove.getTo());
+	private void moveCastlingRook(int kingFrom, int kingTo, boolean back) {
+		int rankStart = kingFrom - kingFrom % Board.SIZE;
+		int rookCorner = kingTo < kingFrom ? rankStart : rankStart + Board.SIZE - 1;
+		int rookTarget = kingTo < kingFrom ? kingTo + 1 : kingTo - 1;
+		int rookFrom = back ? rookTarget : rookCorner;
+		int rookTo = back ? rookCorner : rookTarget;
+
+		Piece rook = this.board.getPieceAt(rookFrom);
+		this.board.setPieceAt(null, rookFrom);
+		this.board.setPieceAt(rook, rookTo);
 	}
 
 	private Move validateMove(Coordinate from, Coordinate to) throws InvalidMoveException, KingInCheckException {
 
-		Piece[][] state = board.getPieces();
+		Move result = findPieceMove(from, to);
+		if (result == null) {
+			throw new InvalidMoveException();
+		}
 
-		isFromOutOfBoard(from);
-		isThereIncorrectPieceOnFrom(from);
+		if (!isLegal(pack(result), getKingSafety(calculateNextMoveColor()))) {
+			throw new KingInCheckException();
+		}
 
-		Piece piece = state[from.getX()][from.getY()];
+		return result;
+	}
 
-		Move result = piece.validateMove(state, from, to);
+	/**
+	 * Validates move according to the rules of the moved piece, without
+	 * looking at the safety of the king
+	 */
+	private Move findPieceMove(Coordinate from, Coordinate to) {
 
-		if (result.getType() == MoveType.EN_PASSANT)
-			checkIfEnPassantIsPossible();
+		if (isFromOutOfBoard(from) || isThereIncorrectPieceOnFrom(from)) {
+			return null;
+		}
 
-		if (willBeCheckedAfterMove(from, to)) {
-			throw new KingInCheckException();
+		Piece piece = board.getPieceAt(from);
+
+		Move result = piece.tryValidateMove(board, from, to);
+
+		if (result != null && result.getType() == MoveType.EN_PASSANT && !isEnPassantPossible(to)) {
+			return null;
 		}
 
 		return result;
 	}
 
-	private void isFromOutOfBoard(Coordinate from) throws InvalidMoveException {
-		if (from.getX() >= Board.SIZE || from.getX() < 0 || from.getY() >= Board.SIZE || from.getY() < 0)
-			throw new InvalidMoveException();
+	private boolean isFromOutOfBoard(Coordinate from) {
+		return !Board.isOnBoard(from);
 	}
 
-	private void isThereIncorrectPieceOnFrom(Coordinate from) throws InvalidMoveException {
-		if (board.getPieces()[from.getX()][from.getY()] == null
-				|| board.getPieces()[from.getX()][from.getY()].getColor() != calculateNextMoveColor()) {
-			throw new InvalidMoveException();
-		}
+	private boolean isThereIncorrectPieceOnFrom(Coordinate from) {
+		return (board.getOccupancy(calculateNextMoveColor()) & 1L << Board.square(from)) == 0;
 	}
 
 	private boolean isKingInCheck(Color kingColor) {
 
-		Piece[][] state = board.getPieces();
-		return CheckValidator.isInCheck(kingColor, state);
+		return CheckValidator.isInCheck(kingColor, board);
 	}
 
-	private void checkIfEnPassantIsPossible() throws InvalidMoveException {
-		int historySize = board.getMoveHistory().size();
-		if (historySize < 1 || board.getMoveHistory().get(historySize - 1).getMovedPiece().getType() != PieceType.PAWN
-				|| Math.abs(board.getMoveHistory().get(historySize - 1).getFrom().getY()
-						- board.getMoveHistory().get(historySize - 1).getTo().getY()) != 2)
-			throw new InvalidMoveException();
+	private boolean isEnPassantPossible(Coordinate to) {
+		return board.getEnPassantFile() == to.getX();
 	}
 
-	private boolean isAnyMoveValid(Color nextMoveColor) {
+	private boolean isAnyMoveValid(Color nextMoveColor, KingSafety kingSafety) {
 
-		for (int i = 0; i < Board.SIZE; i++) {
-			for (int j = 0; j < Board.SIZE; j++) {
-				Coordinate temp = new Coordinate(i, j);
-				Piece piece = board.getPieceAt(temp);
-				if (piece != null && piece.getColor() == nextMoveColor) {
-					List<Coordinate> potentialCoordinates = new ArrayList<>();
-					potentialCoordinates = piece.getPossibleLocations(temp);
-					for (int x = 0; x < potentialCoordinates.size(); x++) {
-						try {
-							validateMove(temp, potentialCoordinates.get(x));
-							return true;
-						} catch (KingInCheckException e) {
-
-						} catch (InvalidMoveException e) {
+		// king moves first: they are checked against the attacked fields
+		// only, and castling is never the only legal king move
+		long ownPieces = board.getOccupancy(nextMoveColor);
+		if (kingSafety.kingSquare >= 0) {
+			long kingTargets = AttackTables.kingAttacks(kingSafety.kingSquare) & ~ownPieces
+					& ~kingSafety.kingDanger;
+			if (kingTargets != 0) {
+				return true;
+			}
+			// in double check only the king can move
+			if (Long.bitCount(kingSafety.checkers) > 1) {
+				return false;
+			}
+			ownPieces &= ~(1L << kingSafety.kingSquare);
+		}
 
-						}
-					}
+		// only fields occupied by pieces of the moving color are visited
+		while (ownPieces != 0) {
+			int from = Long.numberOfTrailingZeros(ownPieces);
+			ownPieces &= ownPieces - 1;
+			Piece piece = board.getPieceAt(from);
+
+			long targets = piece.getTargets(board, from);
+			while (targets != 0) {
+				int to = Long.numberOfTrailingZeros(targets);
+				targets &= targets - 1;
+				MoveType type = MoveTypeChecker.getMoveType(piece, board, from, to);
+				if (isLegal(PackedMove.pack(from, to, type, null), kingSafety)) {
+					return true;
 				}
 			}
 		}
 		return false;
 	}
 
-	private boolean willBeCheckedAfterMove(Coordinate from, Coordinate to) {
-		Color kingColor = calculateNextMoveColor();
-		Piece temp;
-		temp = board.getPieceAt(to);
+	private KingSafety getKingSafety(Color kingColor) {
+		int kingSquare = board.getKingSquare(kingColor);
+		if (kingSquare < 0) {
+			return new KingSafety(-1, 0L, 0L, -1L, 0L);
+		}
+		long checkers = CheckValidator.getCheckers(kingColor, board);
+		// sliding pieces attack through the king, so it cannot step back
+		// along the line of a check
+		Color enemy = kingColor == Color.WHITE ? Color.BLACK : Color.WHITE;
+		long kingDanger = board.getAttacks(enemy, board.getOccupancy() & ~(1L << kingSquare));
+		return new KingSafety(kingSquare, checkers, CheckValidator.getPinnedPieces(kingColor, board),
+				CheckValidator.getEvasionMask(kingSquare, checkers), kingDanger);
+	}
 
-		board.setPieceAt(board.getPieceAt(from), to);
-		board.setPieceAt(null, from);
+	/**
+	 * Checks if the move of the next moving player leaves his king safe. The
+	 * king may not move to attacked fields (castling is tested for attacks
+	 * when its targets are generated). En passant captures, which remove two
+	 * pieces from a line, are made and taken back. Other moves are tested
+	 * against the pinned pieces and the check evasion mask.
+	 */
+	private boolean isLegal(int packedMove, KingSafety kingSafety) {
+		int from = PackedMove.getFrom(packedMove);
+		MoveType type = PackedMove.getType(packedMove);
+		long to = 1L << PackedMove.getTo(packedMove);
+		if (from == kingSafety.kingSquare) {
+			return type == MoveType.CASTLING || (kingSafety.kingDanger & to) == 0;
+		}
+		if (type == MoveType.EN_PASSANT) {
+			return !willBeCheckedAfterMove(packedMove);
+		}
 
-		boolean result = isKingInCheck(kingColor);
+		if ((kingSafety.evasionMask & to) == 0) {
+			return false;
+		}
+		// pinned piece may only move along the line of the pin
+		return (kingSafety.pinnedPieces & 1L << from) == 0
+				|| (AttackTables.line(kingSafety.kingSquare, from) & to) != 0;
+	}
+
+	private boolean willBeCheckedAfterMove(int packedMove) {
+		Color kingColor = calculateNextMoveColor();
 
-		board.setPieceAt(board.getPieceAt(to), from);
-		board.setPieceAt(temp, to);
+		applyMove(packedMove);
+		boolean result = isKingInCheck(kingColor);
+		revertMove();
 
 		return result;
 	}
 
-	private Color calculateNextMoveColor() {
-		if (this.board.getMoveHistory().size() % 2 == 0) {
-			return Color.WHITE;
-		} else {
-			return Color.BLACK;
+	private int pack(Move move) {
+		return PackedMove.pack(Board.square(move.getFrom()), Board.square(move.getTo()), move.getType(), null);
+	}
+
+	private PieceType getPromotion(Piece piece, int to) {
+		int lastRank = piece.getColor() == Color.WHITE ? Board.SIZE - 1 : 0;
+		if (piece.getType() == PieceType.PAWN && to / Board.SIZE == lastRank) {
+			return PieceType.QUEEN;
 		}
+		return null;
 	}
 
-	private int findLastNonAttackMoveIndex() {
-		int counter = 0;
-		int lastNonAttackMoveIndex = 0;
+	private Color calculateNextMoveColor() {
+		return this.board.getNextMoveColor();
+	}
 
-		for (Move move : this.board.getMoveHistory()) {
-			if (move.getType() != MoveType.ATTACK) {
-				lastNonAttackMoveIndex = counter;
-			}
-			counter++;
+	/**
+	 * King safety masks of one position: field of the king (-1 if there is
+	 * none), checking pieces, pinned pieces, fields which answer the check and
+	 * fields the king may not move to
+	 */
+	private static final class KingSafety {
+
+		private final int kingSquare;
+		private final long checkers;
+		private final long pinnedPieces;
+		private final long evasionMask;
+		private final long kingDanger;
+
+		KingSafety(int kingSquare, long checkers, long pinnedPieces, long evasionMask, long kingDanger) {
+			this.kingSquare = kingSquare;
+			this.checkers = checkers;
+			this.pinnedPieces = pinnedPieces;
+			this.evasionMask = evasionMask;
+			this.kingDanger = kingDanger;
 		}
-
-		return lastNonAttackMoveIndex;
 	}
 
 }
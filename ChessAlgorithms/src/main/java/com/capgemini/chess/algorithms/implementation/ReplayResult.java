@@ -0,0 +1,59 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+
+/**
+ * Result of replaying one game by {@link ReplayValidator}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class ReplayResult {
+
+	private final int gameIndex;
+	private final int firstIllegalMove;
+	private final BoardState finalState;
+
+	public ReplayResult(int gameIndex, int firstIllegalMove, BoardState finalState) {
+		this.gameIndex = gameIndex;
+		this.firstIllegalMove = firstIllegalMove;
+		this.finalState = finalState;
+	}
+
+	/**
+	 * Gets position of the game in the validated batch
+	 *
+	 * @return index of the game
+	 */
+	public int getGameIndex() {
+		return gameIndex;
+	}
+
+	/**
+	 * Gets index of the first move which is not valid
+	 *
+	 * @return index of the move or -1 if all moves are valid
+	 */
+	public int getFirstIllegalMove() {
+		return firstIllegalMove;
+	}
+
+	/**
+	 * Gets state of the board after the last valid move
+	 *
+	 * @return board state
+	 */
+	public BoardState getFinalState() {
+		return finalState;
+	}
+
+	public boolean isValid() {
+		return firstIllegalMove < 0;
+	}
+
+	@Override
+	public String toString() {
+		return "ReplayResult [gameIndex=" + gameIndex + ", firstIllegalMove=" + firstIllegalMove + ", finalState="
+				+ finalState + "]";
+	}
+}
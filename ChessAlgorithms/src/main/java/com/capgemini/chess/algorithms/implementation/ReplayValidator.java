@@ -0,0 +1,160 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+
+/**
+ * Validates recorded games by replaying their moves with the same rules as
+ * {@link BoardManager#performMove}. Games of a batch are replayed in parallel
+ * on a fork-join pool.
+ *
+ * Every worker thread keeps one board manager, which is brought back to the
+ * initial position by taking back the moves of the previous game, so no
+ * boards are allocated per game. Moves are made without publishing snapshots
+ * of the board.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class ReplayValidator {
+
+	private final ForkJoinPool pool;
+	private final ThreadLocal<BoardManager> boardManagers = ThreadLocal.withInitial(BoardManager::new);
+
+	/**
+	 * Creates validator using the common fork-join pool
+	 */
+	public ReplayValidator() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	public ReplayValidator(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Replays all games of the batch in parallel
+	 *
+	 * @param games
+	 *            games, each given as the list of its moves from the initial
+	 *            position
+	 * @return results in the order of the games
+	 */
+	public List<ReplayResult> validateAll(List<List<Move>> games) {
+		return collect(IntStream.range(0, games.size()).parallel().mapToObj(i -> validate(i, games.get(i))));
+	}
+
+	/**
+	 * Replays all games of the batch in parallel. The size of the stream is
+	 * not known, so games are handed to the workers in chunks of at least
+	 * 1024 games and a smaller batch is replayed by one worker; use
+	 * {@link #validateAll(List)} for batches already in memory.
+	 *
+	 * @param games
+	 *            stream of games, each given as the list of its moves from
+	 *            the initial position
+	 * @return results in the order of the games
+	 */
+	public List<ReplayResult> validateAll(Stream<List<Move>> games) {
+		// games are numbered as they are taken from the source, which is read
+		// in chunks by one thread at a time
+		Iterator<List<Move>> source = games.iterator();
+		Iterator<IndexedGame> indexed = new Iterator<IndexedGame>() {
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return source.hasNext();
+			}
+
+			@Override
+			public IndexedGame next() {
+				return new IndexedGame(index++, source.next());
+			}
+		};
+		Stream<IndexedGame> batch = StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(indexed, Spliterator.ORDERED | Spliterator.NONNULL), true);
+		return collect(batch.map(game -> validate(game.index, game.moves)));
+	}
+
+	private List<ReplayResult> collect(Stream<ReplayResult> results) {
+		try {
+			return pool.submit(() -> results.collect(Collectors.toList())).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Validation interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Validation failed", e.getCause());
+		}
+	}
+
+	/**
+	 * Replays a single game in the calling thread
+	 *
+	 * @param moves
+	 *            moves of the game from the initial position
+	 * @return result of the game
+	 */
+	public ReplayResult validate(List<Move> moves) {
+		return validate(0, moves);
+	}
+
+	private ReplayResult validate(int gameIndex, List<Move> moves) {
+		BoardManager boardManager = boardManagers.get();
+		try {
+			int firstIllegalMove = -1;
+			for (int i = 0; i < moves.size(); i++) {
+				if (!makeRecordedMove(boardManager, moves.get(i))) {
+					firstIllegalMove = i;
+					break;
+				}
+			}
+			BoardState finalState = boardManager.updateBoardState();
+			return new ReplayResult(gameIndex, firstIllegalMove, finalState);
+		} finally {
+			while (!boardManager.getBoard().getMoveHistory().isEmpty()) {
+				boardManager.unmakeMove();
+			}
+		}
+	}
+
+	/**
+	 * Makes recorded move if it is valid and its type and piece, when
+	 * recorded, agree with the board
+	 */
+	private static boolean makeRecordedMove(BoardManager boardManager, Move move) {
+		if (move == null || move.getFrom() == null || move.getTo() == null) {
+			return false;
+		}
+		Move validated = boardManager.tryValidateMove(move.getFrom(), move.getTo());
+		if (validated == null || (move.getType() != null && move.getType() != validated.getType())
+				|| (move.getMovedPiece() != null && !move.getMovedPiece().equals(validated.getMovedPiece()))) {
+			return false;
+		}
+		boardManager.makeMove(validated);
+		return true;
+	}
+
+	private static final class IndexedGame {
+
+		private final int index;
+		private final List<Move> moves;
+
+		IndexedGame(int index, List<Move> moves) {
+			this.index = index;
+			this.moves = moves;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import java.nio.ByteBuffer;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.data.pieces.Pieces;
+
+/**
+ * Fixed-width binary encoding of a board position, {@link #SIZE} bytes per
+ * position. It holds the same information as FEN, but is read and written
+ * without any text processing.
+ *
+ * Layout of the record: bytes 0-31 piece placement, four bits per field
+ * (lower bits for even fields, 0 for an empty field, otherwise color * 6 +
+ * piece type + 1); byte 32 side to move in bit 0 (set for black) and
+ * castling rights in bits 1-4; byte 33 en passant file plus one (0 if there
+ * is none); bytes 34-35 halfmove clock; bytes 36-39 number of half-moves
+ * since the start of the game. Multi-byte values are big-endian.
+ *
+ * @author TMAZUREK
+ *
+ */
+public final class BinaryPosition {
+
+	/**
+	 * Number of bytes of an encoded position
+	 */
+	public static final int SIZE = 40;
+
+	private static final int SQUARES = Board.SIZE * Board.SIZE;
+	private static final int PIECE_TYPES = PieceType.values().length;
+	private static final int FLAGS_OFFSET = SQUARES / 2;
+	private static final int EN_PASSANT_OFFSET = FLAGS_OFFSET + 1;
+	private static final int HALFMOVE_CLOCK_OFFSET = EN_PASSANT_OFFSET + 1;
+	private static final int PLY_COUNT_OFFSET = HALFMOVE_CLOCK_OFFSET + 2;
+	private static final int MAX_HALFMOVE_CLOCK = 0xFFFF;
+
+	private BinaryPosition() {
+	}
+
+	/**
+	 * Writes position of the board at given offset of the buffer; position
+	 * and limit of the buffer are not changed
+	 *
+	 * @param board
+	 *            chess board
+	 * @param buffer
+	 *            target buffer
+	 * @param offset
+	 *            index of the first byte of the record
+	 * @throws IllegalArgumentException
+	 *             in case the halfmove clock does not fit in the record
+	 */
+	public static void write(Board board, ByteBuffer buffer, int offset) {
+		int halfmoveClock = board.getHalfmoveClock();
+		if (halfmoveClock > MAX_HALFMOVE_CLOCK) {
+			throw new IllegalArgumentException("Halfmove clock too large: " + halfmoveClock);
+		}
+		for (int square = 0; square < SQUARES; square += 2) {
+			int codes = pieceCode(board.getPieceAt(square)) | pieceCode(board.getPieceAt(square + 1)) << 4;
+			buffer.put(offset + square / 2, (byte) codes);
+		}
+		int flags = board.getNextMoveColor().ordinal() | board.getCastlingRights() << 1;
+		buffer.put(offset + FLAGS_OFFSET, (byte) flags);
+		buffer.put(offset + EN_PASSANT_OFFSET, (byte) (board.getEnPassantFile() + 1));
+		buffer.putChar(offset + HALFMOVE_CLOCK_OFFSET, (char) halfmoveClock);
+		buffer.putInt(offset + PLY_COUNT_OFFSET, board.getPlyCount());
+	}
+
+	/**
+	 * Encodes position of the board
+	 *
+	 * @param board
+	 *            chess board
+	 * @return encoded position, {@link #SIZE} bytes long
+	 */
+	public static byte[] toBytes(Board board) {
+		byte[] bytes = new byte[SIZE];
+		write(board, ByteBuffer.wrap(bytes), 0);
+		return bytes;
+	}
+
+	/**
+	 * Creates board from the record at given offset of the buffer; position
+	 * and limit of the buffer are not changed. The board has empty move
+	 * history, like a board read from FEN.
+	 *
+	 * @param buffer
+	 *            source buffer
+	 * @param offset
+	 *            index of the first byte of the record
+	 * @return board with the position
+	 * @throws IllegalArgumentException
+	 *             in case the record is not a valid position
+	 */
+	public static Board read(ByteBuffer buffer, int offset) {
+		Board board = new Board();
+		for (int square = 0; square < SQUARES; square += 2) {
+			int codes = buffer.get(offset + square / 2);
+			board.setPieceAt(toPiece(codes & 0xF), square);
+			board.setPieceAt(toPiece(codes >>> 4 & 0xF), square + 1);
+		}
+		int flags = buffer.get(offset + FLAGS_OFFSET);
+		int plyCount = buffer.getInt(offset + PLY_COUNT_OFFSET);
+		if (plyCount < 0 || plyCount % 2 != (flags & 1)) {
+			throw new IllegalArgumentException("Invalid ply count: " + plyCount);
+		}
+		board.setCastlingRights(flags >>> 1 & Board.ALL_CASTLING);
+		board.setInitialEnPassantFile(buffer.get(offset + EN_PASSANT_OFFSET) - 1);
+		board.setHalfmoveClock(buffer.getChar(offset + HALFMOVE_CLOCK_OFFSET));
+		board.setInitialPlyCount(plyCount);
+		return board;
+	}
+
+	/**
+	 * Creates board from encoded position
+	 *
+	 * @param bytes
+	 *            encoded position, {@link #SIZE} bytes long
+	 * @return board with the position
+	 * @throws IllegalArgumentException
+	 *             in case the bytes are not a valid position
+	 */
+	public static Board fromBytes(byte[] bytes) {
+		if (bytes.length != SIZE) {
+			throw new IllegalArgumentException("Encoded position must have " + SIZE + " bytes");
+		}
+		return read(ByteBuffer.wrap(bytes), 0);
+	}
+
+	private static int pieceCode(Piece piece) {
+		if (piece == null) {
+			return 0;
+		}
+		return piece.getColor().ordinal() * PIECE_TYPES + piece.getType().ordinal() + 1;
+	}
+
+	private static Piece toPiece(int code) {
+		if (code == 0) {
+			return null;
+		}
+		if (code > 2 * PIECE_TYPES) {
+			throw new IllegalArgumentException("Invalid piece code: " + code);
+		}
+		return Pieces.of(Color.values()[(code - 1) / PIECE_TYPES], PieceType.values()[(code - 1) % PIECE_TYPES]);
+	}
+}
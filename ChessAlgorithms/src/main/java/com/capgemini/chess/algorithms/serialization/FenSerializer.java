@@ -0,0 +1,210 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.data.pieces.Pieces;
+
+/**
+ * Reads and writes boards in Forsyth-Edwards Notation, e.g.
+ * {@code rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1}.
+ *
+ * The board read from FEN has empty move history; side to move, castling
+ * rights, en passant file and both move counters are set as the position
+ * the history starts from. En passant field is written only if the capture
+ * is possible, so equal positions always have equal FEN.
+ *
+ * @author TMAZUREK
+ *
+ */
+public final class FenSerializer {
+
+	/**
+	 * FEN of the initial position of a chess game
+	 */
+	public static final String INITIAL_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final String PIECE_LETTERS = "kqbnrp";
+	private static final String CASTLING_LETTERS = "KQkq";
+	private static final int[] CASTLING_RIGHTS = { Board.WHITE_KINGSIDE_CASTLING, Board.WHITE_QUEENSIDE_CASTLING,
+			Board.BLACK_KINGSIDE_CASTLING, Board.BLACK_QUEENSIDE_CASTLING };
+
+	private FenSerializer() {
+	}
+
+	/**
+	 * Creates board from FEN. Move counters may be omitted, in which case
+	 * halfmove clock 0 and fullmove number 1 are assumed.
+	 *
+	 * @param fen
+	 *            position in Forsyth-Edwards Notation
+	 * @return board with the position
+	 * @throws IllegalArgumentException
+	 *             in case the text is not a valid FEN
+	 */
+	public static Board read(String fen) {
+		String[] fields = fen.trim().split("\\s+");
+		if (fields.length != 4 && fields.length != 6) {
+			throw invalid(fen, "expected 4 or 6 fields");
+		}
+
+		Board board = new Board();
+		readPlacement(board, fields[0], fen);
+
+		Color nextMoveColor;
+		if ("w".equals(fields[1])) {
+			nextMoveColor = Color.WHITE;
+		} else if ("b".equals(fields[1])) {
+			nextMoveColor = Color.BLACK;
+		} else {
+			throw invalid(fen, "unknown side to move " + fields[1]);
+		}
+
+		board.setCastlingRights(readCastlingRights(fields[2], fen));
+		board.setInitialEnPassantFile(readEnPassantFile(fields[3], nextMoveColor, fen));
+
+		int halfmoveClock = fields.length == 6 ? readNumber(fields[4], 0, fen) : 0;
+		int fullmoveNumber = fields.length == 6 ? readNumber(fields[5], 1, fen) : 1;
+		board.setHalfmoveClock(halfmoveClock);
+		board.setInitialPlyCount(2 * (fullmoveNumber - 1) + nextMoveColor.ordinal());
+		return board;
+	}
+
+	/**
+	 * Writes position of the board as FEN
+	 *
+	 * @param board
+	 *            chess board
+	 * @return position in Forsyth-Edwards Notation
+	 */
+	public static String write(Board board) {
+		StringBuilder fen = new StringBuilder(90);
+		for (int y = Board.SIZE - 1; y >= 0; y--) {
+			int empty = 0;
+			for (int x = 0; x < Board.SIZE; x++) {
+				Piece piece = board.getPieceAt(y * Board.SIZE + x);
+				if (piece == null) {
+					empty++;
+					continue;
+				}
+				if (empty > 0) {
+					fen.append(empty);
+					empty = 0;
+				}
+				fen.append(toLetter(piece));
+			}
+			if (empty > 0) {
+				fen.append(empty);
+			}
+			if (y > 0) {
+				fen.append('/');
+			}
+		}
+
+		Color nextMoveColor = board.getNextMoveColor();
+		fen.append(nextMoveColor == Color.WHITE ? " w " : " b ");
+
+		int castlingRights = board.getCastlingRights();
+		if (castlingRights == 0) {
+			fen.append('-');
+		}
+		for (int i = 0; i < CASTLING_RIGHTS.length; i++) {
+			if ((castlingRights & CASTLING_RIGHTS[i]) != 0) {
+				fen.append(CASTLING_LETTERS.charAt(i));
+			}
+		}
+
+		int enPassantFile = board.getEnPassantFile();
+		if (enPassantFile < 0) {
+			fen.append(" -");
+		} else {
+			fen.append(' ').append((char) ('a' + enPassantFile)).append(nextMoveColor == Color.WHITE ? '6' : '3');
+		}
+
+		fen.append(' ').append(board.getHalfmoveClock());
+		fen.append(' ').append(board.getPlyCount() / 2 + 1);
+		return fen.toString();
+	}
+
+	private static void readPlacement(Board board, String placement, String fen) {
+		String[] ranks = placement.split("/", -1);
+		if (ranks.length != Board.SIZE) {
+			throw invalid(fen, "expected 8 ranks");
+		}
+		for (int i = 0; i < Board.SIZE; i++) {
+			int y = Board.SIZE - 1 - i;
+			int x = 0;
+			for (char letter : ranks[i].toCharArray()) {
+				if (letter >= '1' && letter <= '8') {
+					x += letter - '0';
+				} else {
+					if (x >= Board.SIZE) {
+						throw invalid(fen, "rank " + (y + 1) + " has more than 8 fields");
+					}
+					board.setPieceAt(toPiece(letter, fen), y * Board.SIZE + x);
+					x++;
+				}
+			}
+			if (x != Board.SIZE) {
+				throw invalid(fen, "rank " + (y + 1) + " does not have 8 fields");
+			}
+		}
+	}
+
+	private static int readCastlingRights(String field, String fen) {
+		if ("-".equals(field)) {
+			return 0;
+		}
+		int rights = 0;
+		for (char letter : field.toCharArray()) {
+			int index = CASTLING_LETTERS.indexOf(letter);
+			if (index < 0) {
+				throw invalid(fen, "unknown castling right " + letter);
+			}
+			rights |= CASTLING_RIGHTS[index];
+		}
+		return rights;
+	}
+
+	private static int readEnPassantFile(String field, Color nextMoveColor, String fen) {
+		if ("-".equals(field)) {
+			return -1;
+		}
+		char rank = nextMoveColor == Color.WHITE ? '6' : '3';
+		if (field.length() != 2 || field.charAt(0) < 'a' || field.charAt(0) > 'h' || field.charAt(1) != rank) {
+			throw invalid(fen, "invalid en passant field " + field);
+		}
+		return field.charAt(0) - 'a';
+	}
+
+	private static int readNumber(String field, int min, String fen) {
+		try {
+			int number = Integer.parseInt(field);
+			if (number >= min) {
+				return number;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw invalid(fen, "invalid move counter " + field);
+	}
+
+	private static Piece toPiece(char letter, String fen) {
+		int index = PIECE_LETTERS.indexOf(Character.toLowerCase(letter));
+		if (index < 0) {
+			throw invalid(fen, "unknown piece " + letter);
+		}
+		Color color = Character.isUpperCase(letter) ? Color.WHITE : Color.BLACK;
+		return Pieces.of(color, PieceType.values()[index]);
+	}
+
+	private static char toLetter(Piece piece) {
+		char letter = PIECE_LETTERS.charAt(piece.getType().ordinal());
+		return piece.getColor() == Color.WHITE ? Character.toUpperCase(letter) : letter;
+	}
+
+	private static IllegalArgumentException invalid(String fen, String reason) {
+		return new IllegalArgumentException("Invalid FEN '" + fen + "': " + reason);
+	}
+}
@@ -0,0 +1,93 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Game read by {@link PgnReader}: tags, result and the board manager on
+ * which the moves were made.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class PgnGame {
+
+	private final Map<String, String> tags;
+	private final BoardManager boardManager;
+	private final String result;
+	private final String error;
+
+	PgnGame(Map<String, String> tags, BoardManager boardManager, String result, String error) {
+		this.tags = Collections.unmodifiableMap(tags);
+		this.boardManager = boardManager;
+		this.result = result;
+		this.error = error;
+	}
+
+	/**
+	 * Gets tag pairs of the game in the order they were read
+	 *
+	 * @return unmodifiable map of tag names to values
+	 */
+	public Map<String, String> getTags() {
+		return tags;
+	}
+
+	/**
+	 * Gets value of the tag
+	 *
+	 * @param name
+	 *            name of the tag, e.g. "White"
+	 * @return value of the tag or null if the game does not have it
+	 */
+	public String getTag(String name) {
+		return tags.get(name);
+	}
+
+	/**
+	 * Gets result written at the end of the movetext
+	 *
+	 * @return "1-0", "0-1", "1/2-1/2", "*" or null if the game was not
+	 *         terminated
+	 */
+	public String getResult() {
+		return result;
+	}
+
+	/**
+	 * Gets manager of the position after the last move read; in case of an
+	 * error it is the position before the move which could not be read
+	 *
+	 * @return board manager
+	 */
+	public BoardManager getBoardManager() {
+		return boardManager;
+	}
+
+	/**
+	 * Gets moves made in the game. Promotion pieces other than a queen are
+	 * kept in the packed moves of the board's move history.
+	 *
+	 * @return list of moves
+	 */
+	public List<Move> getMoves() {
+		return boardManager.getBoard().getMoveHistory();
+	}
+
+	/**
+	 * Gets description of the problem which stopped reading of the moves
+	 *
+	 * @return error message or null if all moves were read
+	 */
+	public String getError() {
+		return error;
+	}
+
+	public boolean isValid() {
+		return error == null;
+	}
+}
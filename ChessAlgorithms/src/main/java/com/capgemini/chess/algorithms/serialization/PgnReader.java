@@ -0,0 +1,295 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Streaming reader of games in Portable Game Notation. Games are read one at
+ * a time, so memory use does not depend on the size of the input: only the
+ * game being read is held, and comments and variations are skipped without
+ * being stored.
+ *
+ * Moves of every game are resolved with {@link SanResolver} and made on a
+ * {@link BoardManager}, starting from the position of the "FEN" tag if the
+ * game has one. A move which cannot be resolved stops reading of the moves
+ * of its game and is reported by {@link PgnGame#getError()}; the following
+ * games are read as usual. I/O errors are thrown as
+ * {@link UncheckedIOException}.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class PgnReader implements Iterator<PgnGame>, Closeable {
+
+	private static final int END = -1;
+	private static final String DELIMITERS = "[]{}();";
+
+	private final Reader reader;
+	private final SanResolver sanResolver = new SanResolver();
+	private final StringBuilder text = new StringBuilder();
+	private int pushedBack = END;
+	private PgnGame nextGame;
+	// problem which stopped reading of the moves of the current game
+	private String error;
+
+	/**
+	 * Creates reader of UTF-8 encoded input
+	 *
+	 * @param input
+	 *            PGN input
+	 */
+	public PgnReader(InputStream input) {
+		this(new InputStreamReader(input, StandardCharsets.UTF_8));
+	}
+
+	public PgnReader(Reader reader) {
+		this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (nextGame == null) {
+			nextGame = readGame();
+		}
+		return nextGame != null;
+	}
+
+	@Override
+	public PgnGame next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		PgnGame game = nextGame;
+		nextGame = null;
+		return game;
+	}
+
+	/**
+	 * Gets the remaining games as a sequential stream, which closes the
+	 * reader when it is closed
+	 *
+	 * @return stream of games
+	 */
+	public Stream<PgnGame> stream() {
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(() -> {
+					try {
+						close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private PgnGame readGame() {
+		Map<String, String> tags = new LinkedHashMap<>();
+		BoardManager boardManager = null;
+		boolean started = false;
+		error = null;
+
+		for (int c = read(); c != END; c = read()) {
+			if (Character.isWhitespace(c)) {
+				continue;
+			}
+			switch (c) {
+			case '[':
+				if (boardManager != null) {
+					// tags of the next game after a game without result
+					pushedBack = c;
+					return endGame(tags, boardManager, null);
+				}
+				readTag(tags);
+				break;
+			case '{':
+				skipUntil('}');
+				break;
+			case ';':
+			case '%':
+				skipUntil('\n');
+				break;
+			case '(':
+				skipVariation();
+				break;
+			case ')':
+			case ']':
+			case '}':
+				// stray closing bracket
+				break;
+			default:
+				pushedBack = c;
+				String token = readToken();
+				if (isResult(token)) {
+					if (boardManager == null) {
+						boardManager = startGame(tags);
+					}
+					return endGame(tags, boardManager, token);
+				}
+				String san = stripMoveNumber(token);
+				if (san.isEmpty() || san.charAt(0) == '$' || SanResolver.isEnPassantMark(san)) {
+					break;
+				}
+				if (boardManager == null) {
+					boardManager = startGame(tags);
+				}
+				if (error == null) {
+					try {
+						boardManager.makeMove(sanResolver.resolve(boardManager, san));
+					} catch (IllegalArgumentException e) {
+						error = e.getMessage();
+					}
+				}
+			}
+			started = true;
+		}
+
+		if (!started) {
+			return null;
+		}
+		if (boardManager == null) {
+			boardManager = startGame(tags);
+		}
+		return endGame(tags, boardManager, null);
+	}
+
+	/**
+	 * Publishes snapshot of the final position, as moves are made without
+	 * publishing, and creates the game
+	 */
+	private PgnGame endGame(Map<String, String> tags, BoardManager boardManager, String result) {
+		boardManager.publishSnapshot();
+		return new PgnGame(tags, boardManager, result, error);
+	}
+
+	/**
+	 * Creates manager of the initial position or the one from the "FEN" tag
+	 */
+	private BoardManager startGame(Map<String, String> tags) {
+		String fen = tags.get("FEN");
+		if (fen != null) {
+			try {
+				return new BoardManager(fen);
+			} catch (IllegalArgumentException e) {
+				error = e.getMessage();
+			}
+		}
+		return new BoardManager();
+	}
+
+	private void readTag(Map<String, String> tags) {
+		text.setLength(0);
+		int c = read();
+		while (c != END && c != '"' && c != ']') {
+			if (!Character.isWhitespace(c)) {
+				text.append((char) c);
+			}
+			c = read();
+		}
+		String name = text.toString();
+		text.setLength(0);
+		if (c == '"') {
+			for (c = read(); c != END && c != '"'; c = read()) {
+				if (c == '\\') {
+					c = read();
+				}
+				if (c != END) {
+					text.append((char) c);
+				}
+			}
+			skipUntil(']');
+		}
+		tags.put(name, text.toString());
+	}
+
+	private String readToken() {
+		text.setLength(0);
+		int c = read();
+		while (c != END && !Character.isWhitespace(c) && DELIMITERS.indexOf(c) < 0) {
+			text.append((char) c);
+			c = read();
+		}
+		pushedBack = c;
+		return text.toString();
+	}
+
+	private void skipVariation() {
+		int depth = 1;
+		while (depth > 0) {
+			int c = read();
+			if (c == END) {
+				return;
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (c == '{') {
+				skipUntil('}');
+			} else if (c == ';') {
+				skipUntil('\n');
+			}
+		}
+	}
+
+	private void skipUntil(char last) {
+		int c = read();
+		while (c != END && c != last) {
+			c = read();
+		}
+	}
+
+	private int read() {
+		if (pushedBack != END) {
+			int c = pushedBack;
+			pushedBack = END;
+			return c;
+		}
+		try {
+			return reader.read();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static boolean isResult(String token) {
+		return "1-0".equals(token) || "0-1".equals(token) || "1/2-1/2".equals(token) || "*".equals(token);
+	}
+
+	/**
+	 * Removes move number written before a move, e.g. "12." or "12...", which
+	 * may be followed by the move without a space
+	 */
+	private static String stripMoveNumber(String token) {
+		int i = 0;
+		while (i < token.length() && Character.isDigit(token.charAt(i))) {
+			i++;
+		}
+		if (i == 0 || i == token.length() || token.charAt(i) != '.') {
+			return token;
+		}
+		while (i < token.length() && token.charAt(i) == '.') {
+			i++;
+		}
+		return token.substring(i);
+	}
+}
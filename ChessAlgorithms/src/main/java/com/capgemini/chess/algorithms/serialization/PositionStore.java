@@ -0,0 +1,180 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Append-only file of positions encoded with {@link BinaryPosition}. The
+ * file is memory-mapped in segments, so records are written and read in
+ * place, without copying them through streams, and a position is decoded
+ * only when it is requested by its index.
+ *
+ * The file starts with a header holding a magic number, the record size and
+ * the number of records, followed by the records. The file grows by whole
+ * segments of about 40 MB, which stay sparse until written. The store is
+ * meant for a single thread; the mappings are released by the garbage
+ * collector after the store is closed.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class PositionStore implements Closeable {
+
+	private static final int MAGIC = 0x43485053; // "CHPS"
+	private static final int HEADER_SIZE = 16;
+	private static final int COUNT_OFFSET = 8;
+	private static final int RECORDS_PER_SEGMENT = 1 << 20;
+	private static final long SEGMENT_SIZE = (long) RECORDS_PER_SEGMENT * BinaryPosition.SIZE;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+	private long size;
+
+	/**
+	 * Opens the store in given file, creating the file if it does not exist
+	 *
+	 * @param file
+	 *            path of the file
+	 * @throws IOException
+	 *             in case the file cannot be opened or is not a position
+	 *             store
+	 */
+	public PositionStore(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			boolean isNew = channel.size() == 0;
+			this.header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+			if (isNew) {
+				header.putInt(0, MAGIC);
+				header.putInt(4, BinaryPosition.SIZE);
+				header.putLong(COUNT_OFFSET, 0L);
+			} else if (header.getInt(0) != MAGIC || header.getInt(4) != BinaryPosition.SIZE) {
+				throw new IOException("Not a position store: " + file);
+			}
+			this.size = header.getLong(COUNT_OFFSET);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Gets number of positions in the store
+	 *
+	 * @return number of positions
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Appends position of the board to the store
+	 *
+	 * @param board
+	 *            chess board
+	 * @return index of the stored position
+	 * @throws IOException
+	 *             in case the file cannot be extended
+	 */
+	public long append(Board board) throws IOException {
+		long index = size;
+		ByteBuffer segment = getSegment(index);
+		BinaryPosition.write(board, segment, recordOffset(index));
+		size++;
+		header.putLong(COUNT_OFFSET, size);
+		return index;
+	}
+
+	/**
+	 * Gets read-only view of the encoded position, backed by the mapped file
+	 *
+	 * @param index
+	 *            index of the position
+	 * @return buffer with {@link BinaryPosition#SIZE} bytes of the record
+	 * @throws IOException
+	 *             in case the file cannot be mapped
+	 */
+	public ByteBuffer getRecord(long index) throws IOException {
+		checkIndex(index);
+		ByteBuffer record = getSegment(index).asReadOnlyBuffer();
+		record.position(recordOffset(index));
+		record.limit(recordOffset(index) + BinaryPosition.SIZE);
+		return record.slice();
+	}
+
+	/**
+	 * Decodes stored position into a board with empty move history
+	 *
+	 * @param index
+	 *            index of the position
+	 * @return board with the position
+	 * @throws IOException
+	 *             in case the file cannot be mapped
+	 */
+	public Board readBoard(long index) throws IOException {
+		checkIndex(index);
+		return BinaryPosition.read(getSegment(index), recordOffset(index));
+	}
+
+	/**
+	 * Decodes stored position into a manager ready to continue the game
+	 *
+	 * @param index
+	 *            index of the position
+	 * @return manager of the position
+	 * @throws IOException
+	 *             in case the file cannot be mapped
+	 */
+	public BoardManager readBoardManager(long index) throws IOException {
+		return new BoardManager(readBoard(index));
+	}
+
+	/**
+	 * Forces written records to the storage device
+	 */
+	public void flush() {
+		for (MappedByteBuffer segment : segments) {
+			segment.force();
+		}
+		header.force();
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+		channel.close();
+	}
+
+	private ByteBuffer getSegment(long index) throws IOException {
+		int segmentIndex = (int) (index / RECORDS_PER_SEGMENT);
+		while (segments.size() <= segmentIndex) {
+			// mapping past the end of the file extends it
+			long position = HEADER_SIZE + segments.size() * SEGMENT_SIZE;
+			segments.add(channel.map(MapMode.READ_WRITE, position, SEGMENT_SIZE));
+		}
+		return segments.get(segmentIndex);
+	}
+
+	private static int recordOffset(long index) {
+		return (int) (index % RECORDS_PER_SEGMENT) * BinaryPosition.SIZE;
+	}
+
+	private void checkIndex(long index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Resolves moves written in Standard Algebraic Notation, e.g. "Nbd7", "exd6
+ * e.p.", "O-O-O" or "e8=N+", against the legal moves of a position.
+ *
+ * The resolver keeps a buffer for generated moves, so it should not be
+ * shared between threads.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class SanResolver {
+
+	private static final Pattern SAN = Pattern.compile("([KQBNR])?([a-h])?([1-8])?x?([a-h][1-8])(?:=?([QBNR]))?");
+	private static final String PIECE_LETTERS = "KQBNR";
+	private static final String EN_PASSANT_SUFFIX = "e.p.";
+
+	private final int[] moves = new int[BoardManager.MAX_LEGAL_MOVES];
+
+	/**
+	 * Finds the legal move of the next moving player described by the SAN
+	 * text. Check and annotation marks are ignored, missing promotion piece
+	 * means a queen.
+	 *
+	 * @param boardManager
+	 *            manager of the position before the move
+	 * @param san
+	 *            move in Standard Algebraic Notation
+	 * @return move packed into an int (see {@link PackedMove}), ready for
+	 *         {@link BoardManager#makeMove(int)}
+	 * @throws IllegalArgumentException
+	 *             in case the text is not a SAN move or does not describe
+	 *             exactly one legal move
+	 */
+	public int resolve(BoardManager boardManager, String san) {
+		String text = strip(san);
+		int count = boardManager.generateLegalMoves(moves);
+
+		if ("O-O".equals(text) || "O-O-O".equals(text)) {
+			int file = text.length() == 3 ? Board.SIZE - 2 : 2;
+			for (int i = 0; i < count; i++) {
+				if (PackedMove.getType(moves[i]) == MoveType.CASTLING && PackedMove.getTo(moves[i]) % Board.SIZE == file) {
+					return moves[i];
+				}
+			}
+			throw new IllegalArgumentException("Illegal SAN move: " + san);
+		}
+
+		Matcher matcher = SAN.matcher(text);
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException("Invalid SAN move: " + san);
+		}
+		PieceType pieceType = matcher.group(1) == null ? PieceType.PAWN : toPieceType(matcher.group(1));
+		int fromFile = matcher.group(2) == null ? -1 : matcher.group(2).charAt(0) - 'a';
+		int fromRank = matcher.group(3) == null ? -1 : matcher.group(3).charAt(0) - '1';
+		int to = toSquare(matcher.group(4));
+		PieceType promotion = matcher.group(5) == null ? null : toPieceType(matcher.group(5));
+
+		Board board = boardManager.getBoard();
+		int result = -1;
+		for (int i = 0; i < count; i++) {
+			int move = moves[i];
+			int from = PackedMove.getFrom(move);
+			if (PackedMove.getTo(move) != to || PackedMove.getType(move) == MoveType.CASTLING
+					|| board.getPieceAt(from).getType() != pieceType
+					|| (fromFile >= 0 && from % Board.SIZE != fromFile)
+					|| (fromRank >= 0 && from / Board.SIZE != fromRank)
+					|| !matchesPromotion(PackedMove.getPromotion(move), promotion)) {
+				continue;
+			}
+			if (result >= 0) {
+				throw new IllegalArgumentException("Ambiguous SAN move: " + san);
+			}
+			result = move;
+		}
+		if (result < 0) {
+			throw new IllegalArgumentException("Illegal SAN move: " + san);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if the token is the en passant mark written after a capture,
+	 * e.g. in "exd6 e.p."
+	 *
+	 * @param token
+	 *            token of the movetext
+	 * @return true if the token is the en passant mark
+	 */
+	static boolean isEnPassantMark(String token) {
+		return EN_PASSANT_SUFFIX.equals(token);
+	}
+
+	private static boolean matchesPromotion(PieceType movePromotion, PieceType promotion) {
+		if (movePromotion == null) {
+			return promotion == null;
+		}
+		return movePromotion == (promotion == null ? PieceType.QUEEN : promotion);
+	}
+
+	private static String strip(String san) {
+		String text = san.trim();
+		if (text.endsWith(EN_PASSANT_SUFFIX)) {
+			text = text.substring(0, text.length() - EN_PASSANT_SUFFIX.length()).trim();
+		}
+		int end = text.length();
+		while (end > 0 && "+#!?".indexOf(text.charAt(end - 1)) >= 0) {
+			end--;
+		}
+		text = text.substring(0, end);
+		// castling is sometimes written with zeros
+		return text.startsWith("0-0") ? text.replace('0', 'O') : text;
+	}
+
+	private static PieceType toPieceType(String letter) {
+		return PieceType.values()[PIECE_LETTERS.indexOf(letter.charAt(0))];
+	}
+
+	private static int toSquare(String field) {
+		return (field.charAt(1) - '1') * Board.SIZE + field.charAt(0) - 'a';
+	}
+}
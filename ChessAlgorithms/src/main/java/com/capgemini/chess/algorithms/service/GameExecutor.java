@@ -0,0 +1,245 @@
+package com.capgemini.chess.algorithms.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.generated.BoardSnapshot;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Asynchronous facade of many games. Every operation runs as a separate task
+ * and its result is returned as a {@link CompletableFuture}.
+ *
+ * Tasks of one game are chained, so each game has a single logical owner:
+ * its operations run one after another in the order they were submitted and
+ * {@link BoardManager} needs no locks, while tasks of different games run in
+ * parallel. A failed operation does not stop the following ones.
+ *
+ * By default tasks run on virtual threads (one per task) when the runtime
+ * provides them, otherwise on a cached pool of daemon threads. A waiting
+ * game holds no thread at all, only its chain of futures.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class GameExecutor implements AutoCloseable {
+
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final GameMap<Game> games = new GameMap<>();
+
+	/**
+	 * Creates facade running tasks on virtual threads if available
+	 */
+	public GameExecutor() {
+		this(newDefaultExecutor(), true);
+	}
+
+	/**
+	 * Creates facade running tasks on given executor, which is not shut down
+	 * by {@link #close()}
+	 *
+	 * @param executor
+	 *            executor of the tasks
+	 */
+	public GameExecutor(ExecutorService executor) {
+		this(executor, false);
+	}
+
+	private GameExecutor(ExecutorService executor, boolean ownsExecutor) {
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	/**
+	 * Starts a new game from the initial position
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @throws IllegalArgumentException
+	 *             in case a game with the id already exists
+	 */
+	public void createGame(String gameId) {
+		games.add(gameId, new Game(new BoardManager()));
+	}
+
+	/**
+	 * Starts a new game, or resumes a saved one, from the position given in
+	 * Forsyth-Edwards Notation
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param fen
+	 *            position in Forsyth-Edwards Notation
+	 * @throws IllegalArgumentException
+	 *             in case a game with the id already exists or the FEN is not
+	 *             valid
+	 */
+	public void createGame(String gameId, String fen) {
+		games.add(gameId, new Game(new BoardManager(fen)));
+	}
+
+	/**
+	 * Removes the game; operations submitted before still complete
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return true if the game was removed, false if there was no such game
+	 */
+	public boolean removeGame(String gameId) {
+		return games.remove(gameId);
+	}
+
+	/**
+	 * Performs move in the game, see
+	 * {@link BoardManager#performMove(Coordinate, Coordinate)}
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return future of the performed move, completed exceptionally with
+	 *         {@link InvalidMoveException} in case the move is not valid
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public CompletableFuture<Move> performMove(String gameId, Coordinate from, Coordinate to) {
+		return submit(gameId, boardManager -> {
+			try {
+				return boardManager.performMove(from, to);
+			} catch (InvalidMoveException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * Calculates state of the board of the game
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return future of the board state
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public CompletableFuture<BoardState> getBoardState(String gameId) {
+		return submit(gameId, BoardManager::updateBoardState);
+	}
+
+	/**
+	 * Checks threefold repetition rule in the game
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return future of the result of the check
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public CompletableFuture<Boolean> checkThreefoldRepetitionRule(String gameId) {
+		return submit(gameId, BoardManager::checkThreefoldRepetitionRule);
+	}
+
+	/**
+	 * Checks 50-move rule in the game
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return future of the result of the check
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public CompletableFuture<Boolean> checkFiftyMoveRule(String gameId) {
+		return submit(gameId, BoardManager::checkFiftyMoveRule);
+	}
+
+	/**
+	 * Gets snapshot of the position after the last committed move of the
+	 * game. The snapshot is read without waiting for operations on the game.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return immutable snapshot of the board
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public BoardSnapshot getSnapshot(String gameId) {
+		return games.get(gameId).boardManager.getSnapshot();
+	}
+
+	/**
+	 * Runs operation on the board manager of the game after all operations
+	 * submitted to the game before. The operation must not keep references to
+	 * the manager or its board after it returns.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param operation
+	 *            operation on the board manager
+	 * @return future of the result of the operation
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public <T> CompletableFuture<T> submit(String gameId, Function<BoardManager, T> operation) {
+		return games.get(gameId).enqueue(operation, executor);
+	}
+
+	/**
+	 * Shuts down the executor if it was created by this facade; tasks already
+	 * submitted still complete
+	 */
+	@Override
+	public void close() {
+		if (ownsExecutor) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Creates executor starting a virtual thread per task. Virtual threads
+	 * exist since Java 21, so the factory method is looked up reflectively and
+	 * a cached thread pool is used on older runtimes.
+	 */
+	private static ExecutorService newDefaultExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool(task -> {
+				Thread thread = new Thread(task, "game-executor");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	private static final class Game {
+
+		private final BoardManager boardManager;
+		// completes normally when the last submitted operation is done
+		private final AtomicReference<CompletableFuture<Void>> tail = new AtomicReference<>(
+				CompletableFuture.completedFuture(null));
+
+		Game(BoardManager boardManager) {
+			this.boardManager = boardManager;
+		}
+
+		<T> CompletableFuture<T> enqueue(Function<BoardManager, T> operation, ExecutorService executor) {
+			CompletableFuture<Void> done = new CompletableFuture<>();
+			CompletableFuture<T> result = tail.getAndSet(done)
+					.thenApplyAsync(ignored -> operation.apply(boardManager), executor);
+			result.whenComplete((value, failure) -> done.complete(null));
+			return result;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.capgemini.chess.algorithms.service;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Games of a service keyed by game id. The map itself takes no locks; every
+ * service keeps its own holder of a game, which decides how operations on
+ * the game are serialized.
+ *
+ * @param <G>
+ *            type of the holder of a game
+ *
+ * @author TMAZUREK
+ *
+ */
+final class GameMap<G> {
+
+	private final ConcurrentMap<String, G> games = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds the game
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param game
+	 *            holder of the game
+	 * @throws IllegalArgumentException
+	 *             in case a game with the id already exists
+	 */
+	void add(String gameId, G game) {
+		if (games.putIfAbsent(gameId, game) != null) {
+			throw new IllegalArgumentException("Game already exists: " + gameId);
+		}
+	}
+
+	/**
+	 * Gets the game
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return holder of the game
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	G get(String gameId) {
+		G game = games.get(gameId);
+		if (game == null) {
+			throw new IllegalArgumentException("Unknown game: " + gameId);
+		}
+		return game;
+	}
+
+	boolean remove(String gameId) {
+		return games.remove(gameId) != null;
+	}
+
+	boolean contains(String gameId) {
+		return games.containsKey(gameId);
+	}
+
+	/**
+	 * Gets ids of the games, the set reflects later changes of the map
+	 *
+	 * @return unmodifiable set of game ids
+	 */
+	Set<String> getIds() {
+		return Collections.unmodifiableSet(games.keySet());
+	}
+}
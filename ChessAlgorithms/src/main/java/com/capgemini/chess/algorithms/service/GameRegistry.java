@@ -0,0 +1,175 @@
+package com.capgemini.chess.algorithms.service;
+
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.generated.BoardSnapshot;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.serialization.FenSerializer;
+
+/**
+ * Registry of games played concurrently, keyed by game id.
+ *
+ * {@link BoardManager} is not thread-safe, even its queries change the
+ * board for a moment, so every game has its own lock which every operation
+ * on the game holds. Operations on one game are thus serialized and always
+ * see a complete position, while different games do not wait for each
+ * other.
+ *
+ * @author TMAZUREK
+ *
+ */
+public class GameRegistry {
+
+	private final GameMap<Game> games = new GameMap<>();
+
+	/**
+	 * Starts a new game from the initial position
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @throws IllegalArgumentException
+	 *             in case a game with the id already exists
+	 */
+	public void createGame(String gameId) {
+		games.add(gameId, new Game(new BoardManager()));
+	}
+
+	/**
+	 * Starts a new game, or resumes a saved one, from the position given in
+	 * Forsyth-Edwards Notation
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param fen
+	 *            position in Forsyth-Edwards Notation
+	 * @throws IllegalArgumentException
+	 *             in case a game with the id already exists or the FEN is not
+	 *             valid
+	 */
+	public void createGame(String gameId, String fen) {
+		games.add(gameId, new Game(new BoardManager(fen)));
+	}
+
+	/**
+	 * Removes the game from the registry
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return true if the game was removed, false if there was no such game
+	 */
+	public boolean removeGame(String gameId) {
+		return games.remove(gameId);
+	}
+
+	public boolean containsGame(String gameId) {
+		return games.contains(gameId);
+	}
+
+	/**
+	 * Gets ids of the games, the set reflects later changes of the registry
+	 *
+	 * @return unmodifiable set of game ids
+	 */
+	public Set<String> getGameIds() {
+		return games.getIds();
+	}
+
+	/**
+	 * Performs move in the game, see
+	 * {@link BoardManager#performMove(Coordinate, Coordinate)}
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return move object which includes moved piece and move type
+	 * @throws InvalidMoveException
+	 *             in case move is not valid
+	 */
+	public Move performMove(String gameId, Coordinate from, Coordinate to) throws InvalidMoveException {
+		Game game = games.get(gameId);
+		game.lock.lock();
+		try {
+			return game.boardManager.performMove(from, to);
+		} finally {
+			game.lock.unlock();
+		}
+	}
+
+	/**
+	 * Calculates state of the board of the game
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return state of the board
+	 */
+	public BoardState getBoardState(String gameId) {
+		return execute(gameId, BoardManager::updateBoardState);
+	}
+
+	/**
+	 * Gets position of the game in Forsyth-Edwards Notation
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return position of the game
+	 */
+	public String getFen(String gameId) {
+		return execute(gameId, boardManager -> FenSerializer.write(boardManager.getBoard()));
+	}
+
+	/**
+	 * Gets snapshot of the position after the last committed move of the
+	 * game. The snapshot is read without waiting for operations on the game.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @return immutable snapshot of the board
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public BoardSnapshot getSnapshot(String gameId) {
+		return games.get(gameId).boardManager.getSnapshot();
+	}
+
+	/**
+	 * Runs operation on the board manager of the game while no other
+	 * operation on the game runs. The operation must not keep references to
+	 * the manager or its board after it returns.
+	 *
+	 * @param gameId
+	 *            id of the game
+	 * @param operation
+	 *            operation on the board manager
+	 * @return result of the operation
+	 * @throws IllegalArgumentException
+	 *             in case there is no game with the id
+	 */
+	public <T> T execute(String gameId, Function<BoardManager, T> operation) {
+		Game game = games.get(gameId);
+		game.lock.lock();
+		try {
+			return operation.apply(game.boardManager);
+		} finally {
+			game.lock.unlock();
+		}
+	}
+
+	private static final class Game {
+
+		private final BoardManager boardManager;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		Game(BoardManager boardManager) {
+			this.boardManager = boardManager;
+		}
+	}
+}
@@ -0,0 +1,331 @@
+package com.capgemini.chess.algorithms.validators;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Precomputed attack masks for all fields of the board. Fields are numbered
+ * the same way as in {@link Board} bitboards, i.e. {@code y * 8 + x}.
+ *
+ * Attacks of rooks, bishops and queens are looked up in magic bitboard
+ * tables: the occupancy of the relevant rays is multiplied by a magic number
+ * and the top bits of the product index a table of attack masks, so a
+ * sliding attack costs one multiplication and one array access no matter
+ * how long the rays are. Magic numbers are searched once, with fixed seeds,
+ * when the class is loaded.
+ *
+ * @author TMAZUREK
+ *
+ */
+public final class AttackTables {
+
+	private static final int SQUARES = Board.SIZE * Board.SIZE;
+
+	private static final int[][] KNIGHT_JUMPS = { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 }, { -1, -2 }, { -2, -1 },
+			{ -2, 1 }, { -1, 2 } };
+	private static final int[][] KING_STEPS = { { 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 },
+			{ 0, -1 }, { 1, -1 } };
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+	// seeds per rank which quickly lead to collision free magic numbers
+	private static final long[] MAGIC_SEEDS = { 728, 10316, 55013, 32803, 12281, 15100, 16645, 255 };
+
+	private static final long[] KNIGHT_ATTACKS = new long[SQUARES];
+	private static final long[] KING_ATTACKS = new long[SQUARES];
+	private static final long[][] PAWN_ATTACKS = new long[Color.values().length][SQUARES];
+
+	private static final long[] BETWEEN = new long[SQUARES * SQUARES];
+	private static final long[] LINE = new long[SQUARES * SQUARES];
+
+	private static final SliderTable ROOK_TABLE;
+	private static final SliderTable BISHOP_TABLE;
+
+	static {
+		for (int square = 0; square < SQUARES; square++) {
+			KNIGHT_ATTACKS[square] = stepAttacks(square, KNIGHT_JUMPS);
+			KING_ATTACKS[square] = stepAttacks(square, KING_STEPS);
+			PAWN_ATTACKS[Color.WHITE.ordinal()][square] = stepAttacks(square, new int[][] { { -1, 1 }, { 1, 1 } });
+			PAWN_ATTACKS[Color.BLACK.ordinal()][square] = stepAttacks(square, new int[][] { { -1, -1 }, { 1, -1 } });
+		}
+		for (int square = 0; square < SQUARES; square++) {
+			initLines(square, ROOK_DIRECTIONS);
+			initLines(square, BISHOP_DIRECTIONS);
+		}
+		ROOK_TABLE = new SliderTable(ROOK_DIRECTIONS);
+		BISHOP_TABLE = new SliderTable(BISHOP_DIRECTIONS);
+	}
+
+	private AttackTables() {
+	}
+
+	/**
+	 * Gets fields attacked by a knight
+	 *
+	 * @param square
+	 *            field of the knight
+	 * @return mask of attacked fields
+	 */
+	public static long knightAttacks(int square) {
+		return KNIGHT_ATTACKS[square];
+	}
+
+	/**
+	 * Gets fields attacked by a king
+	 *
+	 * @param square
+	 *            field of the king
+	 * @return mask of attacked fields
+	 */
+	public static long kingAttacks(int square) {
+		return KING_ATTACKS[square];
+	}
+
+	/**
+	 * Gets fields attacked (diagonally) by a pawn
+	 *
+	 * @param color
+	 *            color of the pawn
+	 * @param square
+	 *            field of the pawn
+	 * @return mask of attacked fields
+	 */
+	public static long pawnAttacks(Color color, int square) {
+		return PAWN_ATTACKS[color.ordinal()][square];
+	}
+
+	/**
+	 * Gets fields attacked by a rook, including the first blocker on every ray
+	 *
+	 * @param square
+	 *            field of the rook
+	 * @param occupancy
+	 *            mask of all occupied fields
+	 * @return mask of attacked fields
+	 */
+	public static long rookAttacks(int square, long occupancy) {
+		return ROOK_TABLE.attacks(square, occupancy);
+	}
+
+	/**
+	 * Gets fields attacked by a bishop, including the first blocker on every
+	 * ray
+	 *
+	 * @param square
+	 *            field of the bishop
+	 * @param occupancy
+	 *            mask of all occupied fields
+	 * @return mask of attacked fields
+	 */
+	public static long bishopAttacks(int square, long occupancy) {
+		return BISHOP_TABLE.attacks(square, occupancy);
+	}
+
+	/**
+	 * Gets fields attacked by a queen, including the first blocker on every ray
+	 *
+	 * @param square
+	 *            field of the queen
+	 * @param occupancy
+	 *            mask of all occupied fields
+	 * @return mask of attacked fields
+	 */
+	public static long queenAttacks(int square, long occupancy) {
+		return ROOK_TABLE.attacks(square, occupancy) | BISHOP_TABLE.attacks(square, occupancy);
+	}
+
+	/**
+	 * Gets fields strictly between two fields lying on one rank, file or
+	 * diagonal
+	 *
+	 * @param first
+	 *            index of the first field
+	 * @param second
+	 *            index of the second field
+	 * @return mask of fields between, empty if the fields are not aligned
+	 */
+	public static long between(int first, int second) {
+		return BETWEEN[first * SQUARES + second];
+	}
+
+	/**
+	 * Gets the whole rank, file or diagonal going through two fields
+	 *
+	 * @param first
+	 *            index of the first field
+	 * @param second
+	 *            index of the second field
+	 * @return mask of the fields of the line, both given fields included,
+	 *         empty if the fields are not aligned
+	 */
+	public static long line(int first, int second) {
+		return LINE[first * SQUARES + second];
+	}
+
+	private static void initLines(int square, int[][] directions) {
+		for (int[] direction : directions) {
+			// the line through the field in this direction and the opposite one
+			long line = slidingAttacks(square, 0L, new int[][] { direction, { -direction[0], -direction[1] } })
+					| 1L << square;
+			long between = 0L;
+			int x = square % Board.SIZE + direction[0];
+			int y = square / Board.SIZE + direction[1];
+			while (isOnBoard(x, y)) {
+				int target = y * Board.SIZE + x;
+				BETWEEN[square * SQUARES + target] = between;
+				LINE[square * SQUARES + target] = line;
+				between |= 1L << target;
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+	}
+
+	private static long stepAttacks(int square, int[][] steps) {
+		long result = 0L;
+		int x = square % Board.SIZE;
+		int y = square / Board.SIZE;
+		for (int[] step : steps) {
+			int targetX = x + step[0];
+			int targetY = y + step[1];
+			if (isOnBoard(targetX, targetY))
+				result |= 1L << (targetY * Board.SIZE + targetX);
+		}
+		return result;
+	}
+
+	private static long slidingAttacks(int square, long occupancy, int[][] directions) {
+		long result = 0L;
+		for (int[] direction : directions) {
+			int x = square % Board.SIZE + direction[0];
+			int y = square / Board.SIZE + direction[1];
+			while (isOnBoard(x, y)) {
+				long field = 1L << (y * Board.SIZE + x);
+				result |= field;
+				if ((occupancy & field) != 0)
+					break;
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Fields whose occupancy matters for a slider: the rays without the last
+	 * field on the edge, which is attacked whether it is occupied or not
+	 */
+	private static long relevantOccupancy(int square, int[][] directions) {
+		long result = 0L;
+		for (int[] direction : directions) {
+			int x = square % Board.SIZE + direction[0];
+			int y = square / Board.SIZE + direction[1];
+			while (isOnBoard(x + direction[0], y + direction[1])) {
+				result |= 1L << (y * Board.SIZE + x);
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return result;
+	}
+
+	private static boolean isOnBoard(int x, int y) {
+		return x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE;
+	}
+
+	/**
+	 * Magic lookup table for one kind of sliding piece
+	 */
+	private static final class SliderTable {
+
+		private final long[] masks = new long[SQUARES];
+		private final long[] magics = new long[SQUARES];
+		private final int[] shifts = new int[SQUARES];
+		private final int[] offsets = new int[SQUARES];
+		private final long[] attacks;
+
+		SliderTable(int[][] directions) {
+			int size = 0;
+			for (int square = 0; square < SQUARES; square++) {
+				masks[square] = relevantOccupancy(square, directions);
+				shifts[square] = SQUARES - Long.bitCount(masks[square]);
+				offsets[square] = size;
+				size += 1 << Long.bitCount(masks[square]);
+			}
+			attacks = new long[size];
+			for (int square = 0; square < SQUARES; square++) {
+				findMagic(square, directions, new MagicRandom(MAGIC_SEEDS[square / Board.SIZE]));
+			}
+		}
+
+		long attacks(int square, long occupancy) {
+			return attacks[offsets[square] + (int) (((occupancy & masks[square]) * magics[square]) >>> shifts[square])];
+		}
+
+		private void findMagic(int square, int[][] directions, MagicRandom random) {
+			long mask = masks[square];
+			int count = 1 << Long.bitCount(mask);
+			long[] occupancies = new long[count];
+			long[] references = new long[count];
+
+			// enumerate all subsets of the mask (Carry-Rippler)
+			long subset = 0L;
+			for (int i = 0; i < count; i++) {
+				occupancies[i] = subset;
+				references[i] = slidingAttacks(square, subset, directions);
+				subset = (subset - mask) & mask;
+			}
+
+			long[] used = new long[count];
+			int[] usedInAttempt = new int[count];
+			for (int attempt = 1;; attempt++) {
+				long magic = random.nextSparse();
+				if (Long.bitCount((mask * magic) & 0xFF00000000000000L) < 6)
+					continue;
+
+				boolean collision = false;
+				for (int i = 0; i < count && !collision; i++) {
+					int index = (int) ((occupancies[i] * magic) >>> shifts[square]);
+					if (usedInAttempt[index] != attempt) {
+						usedInAttempt[index] = attempt;
+						used[index] = references[i];
+					} else if (used[index] != references[i]) {
+						collision = true;
+					}
+				}
+				if (!collision) {
+					magics[square] = magic;
+					for (int i = 0; i < count; i++) {
+						int index = (int) ((occupancies[i] * magic) >>> shifts[square]);
+						attacks[offsets[square] + index] = references[i];
+					}
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deterministic xorshift generator, so the tables are identical on every
+	 * start
+	 */
+	private static final class MagicRandom {
+
+		private long state;
+
+		MagicRandom(long seed) {
+			this.state = seed;
+		}
+
+		long next() {
+			state ^= state >>> 12;
+			state ^= state << 25;
+			state ^= state >>> 27;
+			return state * 0x2545F4914F6CDD1DL;
+		}
+
+		long nextSparse() {
+			return next() & next() & next();
+		}
+	}
+}
@@ -1,10 +1,5 @@
 package com.capgemini.chess.algorithms.validators;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -13,306 +8,184 @@ import com.capgemini.chess.algorithms.data.pieces.Piece;
 
 public class CheckValidator {
 
+	/**
+	 * Checks if the king of given color is in check
+	 *
+	 * @param kingsColor
+	 *            color of the king
+	 * @param state
+	 *            grid of pieces
+	 * @return true if the king is attacked, false otherwise
+	 */
 	public static boolean isInCheck(Color kingsColor, Piece[][] state) {
-		
-		Coordinate kingsLocation = null;
-		boolean continues = true;
-		int i = 0;
-		while (continues && i < Board.SIZE) {
-			int j = 0;
-			while (continues && j < Board.SIZE) {
-				if (state[i][j] != null && state[i][j].getType() == PieceType.KING)
-					if (state[i][j].getColor() == kingsColor) {
-						kingsLocation = new Coordinate(i, j);
-						continues = false;
-					}
-				j++;
-			}
-			i++;
-		}
-		if(kingsLocation == null)
-			return false;
-		
-		if (isAttackedByPawn(kingsLocation, kingsColor, state))
-			return true;
-		if (isAttackedByKnight(kingsLocation, kingsColor, state))
-			return true;
-		if (isAttackedByRookOrQueen(kingsLocation, kingsColor, state))
-			return true;
-		if (isAttackedByBishopOrQueen(kingsLocation, kingsColor, state))
-			return true;
-
-		return false;
-	}
-
-	private static boolean isAttackedByRookOrQueen(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		return
-
-		isAttackedFromLeft(kingsLocation, kingsColor, state) ||
-
-		isAttackedFromRight(kingsLocation, kingsColor, state) ||
-
-		isAttackedFromTop(kingsLocation, kingsColor, state) ||
-
-		isAttackedFromBottom(kingsLocation, kingsColor, state);
-
-	}
-
-	private static boolean isAttackedFromLeft(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getX() - i >= 0) {
-			temp = state[kingsLocation.getX() - i][kingsLocation.getY()];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.ROOK || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
-			}
-			i++;
-		}
-		return false;
-	}
-
-	private static boolean isAttackedFromRight(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getX() + i < Board.SIZE) {
-			temp = state[kingsLocation.getX() + i][kingsLocation.getY()];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.ROOK || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
-			}
-			i++;
-		}
-		return false;
-	}
-
-	private static boolean isAttackedFromTop(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getY() - i >= 0) {
-			temp = state[kingsLocation.getX()][kingsLocation.getY() - i];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.ROOK || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
-			}
-			i++;
-		}
-		return false;
-	}
-
-	private static boolean isAttackedFromBottom(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getY() + i < Board.SIZE) {
-			temp = state[kingsLocation.getX()][kingsLocation.getY() + i];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.ROOK || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
-			}
-			i++;
-		}
-		return false;
-	}
-
-	private static boolean isAttackedByBishopOrQueen(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		return isAttackedFromUpperLeft(kingsLocation, kingsColor, state)
-				|| isAttackedFromLowerRight(kingsLocation, kingsColor, state)
-				|| isAttackedFromLowerLeft(kingsLocation, kingsColor, state)
-				|| isAttackedFromUpperRight(kingsLocation, kingsColor, state);
-	}
 
-	private static boolean isAttackedFromUpperLeft(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getX() - i >= 0 && kingsLocation.getY() - i >= 0) {
-			temp = state[kingsLocation.getX() - i][kingsLocation.getY() - i];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.BISHOP || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
+		Board board = new Board();
+		for (int i = 0; i < Board.SIZE; i++) {
+			for (int j = 0; j < Board.SIZE; j++) {
+				if (state[i][j] != null)
+					board.setPieceAt(state[i][j], Coordinate.of(i, j));
 			}
-			i++;
 		}
-		return false;
-	}
-
-	private static boolean isAttackedFromLowerRight(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getX() + i < Board.SIZE && kingsLocation.getY() + i < Board.SIZE) {
-			temp = state[kingsLocation.getX() + i][kingsLocation.getY() + i];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.BISHOP || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
-			}
-			i++;
-		}
-		return false;
-	}
-
-	private static boolean isAttackedFromLowerLeft(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getX() - i >= 0 && kingsLocation.getY() + i < Board.SIZE) {
-			temp = state[kingsLocation.getX() - i][kingsLocation.getY() + i];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.BISHOP || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
-			}
-			i++;
-		}
-		return false;
-	}
-
-	private static boolean isAttackedFromUpperRight(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		Piece temp;
-		boolean continues = true;
-		int i = 1;
-		while (continues && kingsLocation.getX() + i < Board.SIZE && kingsLocation.getY() - i >= 0)
-
-		{
-			temp = state[kingsLocation.getX() + i][kingsLocation.getY() - i];
-			if (temp != null) {
-				if (temp.getColor() == kingsColor)
-					continues = false;
-				else {
-					if (temp.getType() == PieceType.BISHOP || temp.getType() == PieceType.QUEEN)
-						return true;
-					else
-						return false;
-				}
-			}
-			i++;
-		}
-		return false;
-
-	}
-
-	private static boolean isAttackedByKnight(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-
-		List<Coordinate> possibleCoordinates = new LinkedList<>();
-		int x = kingsLocation.getX();
-		int y = kingsLocation.getY();
-
-		possibleCoordinates.add(new Coordinate(x - 2, y + 1));
-		possibleCoordinates.add(new Coordinate(x - 2, y - 1));
-		possibleCoordinates.add(new Coordinate(x + 2, y + 1));
-		possibleCoordinates.add(new Coordinate(x + 2, y - 1));
-		possibleCoordinates.add(new Coordinate(x - 1, y + 2));
-		possibleCoordinates.add(new Coordinate(x - 1, y - 2));
-		possibleCoordinates.add(new Coordinate(x + 1, y + 2));
-		possibleCoordinates.add(new Coordinate(x + 1, y - 2));
-
-		possibleCoordinates = possibleCoordinates
-				.stream()
-				.filter(isOutOfTheBoard())
-				.collect(Collectors.toList());
-
-		Piece temp;
+		return isInCheck(kingsColor, board);
+	}
+
+	/**
+	 * Checks if the king of given color is in check, using the king field
+	 * tracked by the board instead of scanning the whole grid
+	 *
+	 * @param kingsColor
+	 *            color of the king
+	 * @param board
+	 *            actual board
+	 * @return true if the king is attacked, false otherwise
+	 */
+	public static boolean isInCheck(Color kingsColor, Board board) {
+
+		int kingSquare = board.getKingSquare(kingsColor);
+		if (kingSquare < 0)
+			return false;
 
-		for (int i = 0; i < possibleCoordinates.size(); i++) {
-			temp = state[possibleCoordinates.get(i).getX()][possibleCoordinates.get(i).getY()];
-			if (temp != null && temp.getColor() != kingsColor)
-				if (temp.getType() == PieceType.KNIGHT)
-					return true;
+		return isAttacked(kingSquare, opposite(kingsColor), board);
+	}
+
+	/**
+	 * Checks if the field is attacked by any piece of given color, looking it
+	 * up in the attack map of the board
+	 *
+	 * @param square
+	 *            index of the field
+	 * @param attackersColor
+	 *            color of attacking pieces
+	 * @param board
+	 *            actual board
+	 * @return true if the field is attacked, false otherwise
+	 */
+	public static boolean isAttacked(int square, Color attackersColor, Board board) {
+		return (board.getAttacks(attackersColor) & 1L << square) != 0;
+	}
+
+	/**
+	 * Counts pieces of given color attacking the field, looking it up in the
+	 * attacker counts of the board
+	 *
+	 * @param square
+	 *            index of the field
+	 * @param attackersColor
+	 *            color of attacking pieces
+	 * @param board
+	 *            actual board
+	 * @return number of attacking pieces
+	 */
+	public static int countAttackers(int square, Color attackersColor, Board board) {
+		return board.getAttackerCount(attackersColor, square);
+	}
+
+	/**
+	 * Gets pieces of given color attacking the field
+	 *
+	 * @param square
+	 *            index of the field
+	 * @param attackersColor
+	 *            color of attacking pieces
+	 * @param board
+	 *            actual board
+	 * @param occupancy
+	 *            mask of occupied fields used to block sliding pieces
+	 * @return mask of attacking pieces
+	 */
+	public static long getAttackers(int square, Color attackersColor, Board board, long occupancy) {
+		long queens = board.getBitboard(attackersColor, PieceType.QUEEN);
+		long rooksAndQueens = board.getBitboard(attackersColor, PieceType.ROOK) | queens;
+		long bishopsAndQueens = board.getBitboard(attackersColor, PieceType.BISHOP) | queens;
+
+		// a pawn of the defending color standing on the field would attack
+		// exactly the fields from which attacking pawns hit it
+		return (AttackTables.pawnAttacks(opposite(attackersColor), square)
+				& board.getBitboard(attackersColor, PieceType.PAWN))
+				| (AttackTables.knightAttacks(square) & board.getBitboard(attackersColor, PieceType.KNIGHT))
+				| (AttackTables.kingAttacks(square) & board.getBitboard(attackersColor, PieceType.KING))
+				| (AttackTables.rookAttacks(square, occupancy) & rooksAndQueens)
+				| (AttackTables.bishopAttacks(square, occupancy) & bishopsAndQueens);
+	}
+
+	/**
+	 * Gets pieces of the opposite color giving check to the king of given
+	 * color
+	 *
+	 * @param kingsColor
+	 *            color of the king
+	 * @param board
+	 *            actual board
+	 * @return mask of checking pieces, empty if there is no king
+	 */
+	public static long getCheckers(Color kingsColor, Board board) {
+
+		int kingSquare = board.getKingSquare(kingsColor);
+		if (kingSquare < 0)
+			return 0L;
+
+		return getAttackers(kingSquare, opposite(kingsColor), board, board.getOccupancy());
+	}
+
+	/**
+	 * Gets pieces of given color which are pinned to their king, i.e. stand
+	 * alone between the king and an enemy rook, bishop or queen attacking
+	 * along that line
+	 *
+	 * @param kingsColor
+	 *            color of the king and pinned pieces
+	 * @param board
+	 *            actual board
+	 * @return mask of pinned pieces, empty if there is no king
+	 */
+	public static long getPinnedPieces(Color kingsColor, Board board) {
+
+		int kingSquare = board.getKingSquare(kingsColor);
+		if (kingSquare < 0)
+			return 0L;
+
+		Color enemy = opposite(kingsColor);
+		long queens = board.getBitboard(enemy, PieceType.QUEEN);
+		// enemy sliders which would attack the king on an empty board
+		long snipers = (AttackTables.rookAttacks(kingSquare, 0L)
+				& (board.getBitboard(enemy, PieceType.ROOK) | queens))
+				| (AttackTables.bishopAttacks(kingSquare, 0L) & (board.getBitboard(enemy, PieceType.BISHOP) | queens));
+
+		long occupancy = board.getOccupancy();
+		long pinned = 0L;
+		while (snipers != 0) {
+			int sniper = Long.numberOfTrailingZeros(snipers);
+			snipers &= snipers - 1;
+			long blockers = AttackTables.between(kingSquare, sniper) & occupancy;
+			if (Long.bitCount(blockers) == 1)
+				pinned |= blockers;
 		}
-		return false;
-
+		return pinned & board.getOccupancy(kingsColor);
 	}
 
-	private static Predicate<Coordinate> isOutOfTheBoard() {
-		return coor -> coor.getX() >= 0 && coor.getX() < Board.SIZE && coor.getY() >= 0 && coor.getY() < Board.SIZE;
-	}
+	/**
+	 * Gets fields to which a piece other than the king has to move to answer
+	 * the check: the checking piece and fields between it and the king
+	 *
+	 * @param kingSquare
+	 *            index of the field of the king
+	 * @param checkers
+	 *            mask of checking pieces (see {@link #getCheckers(Color, Board)})
+	 * @return all fields if there is no check, empty mask in case of double
+	 *         check
+	 */
+	public static long getEvasionMask(int kingSquare, long checkers) {
 
-	private static boolean isAttackedByPawn(Coordinate kingsLocation, Color kingsColor, Piece[][] state) {
-		if (kingsColor == Color.BLACK) {
-			return isBlackAttackedByPawn(kingsLocation, state);
-		} else {
-			return isWhiteAttackedByPawn(kingsLocation, state);
-		}
+		if (checkers == 0)
+			return -1L;
+		if (Long.bitCount(checkers) > 1)
+			return 0L;
 
+		return checkers | AttackTables.between(kingSquare, Long.numberOfTrailingZeros(checkers));
 	}
 
-	private static boolean isBlackAttackedByPawn(Coordinate kingsLocation, Piece[][] state) {
-		Piece temp;
-		if (kingsLocation.getY() - 1 >= 0) {
-			if (kingsLocation.getX() > 0) {
-				temp = state[kingsLocation.getX() - 1][kingsLocation.getY() - 1];
-				if (temp != null && temp.getColor() != Color.BLACK && temp.getType() == PieceType.PAWN)
-					return true;
-			}
-			if (kingsLocation.getX() < Board.SIZE - 1) {
-				temp = state[kingsLocation.getX() + 1][kingsLocation.getY() - 1];
-				if (temp != null && temp.getColor() != Color.BLACK && temp.getType() == PieceType.PAWN)
-					return true;
-			}
-		}
-		return false;
-	}
-
-	private static boolean isWhiteAttackedByPawn(Coordinate kingsLocation, Piece[][] state) {
-		Piece temp;
-		if (kingsLocation.getY() + 1 < Board.SIZE) {
-			if (kingsLocation.getX() > 0) {
-				temp = state[kingsLocation.getX() - 1][kingsLocation.getY() + 1];
-				if (temp != null && temp.getColor() != Color.WHITE && temp.getType() == PieceType.PAWN)
-					return true;
-			}
-			if (kingsLocation.getX() < Board.SIZE - 1) {
-				temp = state[kingsLocation.getX() + 1][kingsLocation.getY() + 1];
-				if (temp != null && temp.getColor() != Color.WHITE && temp.getType() == PieceType.PAWN)
-					return true;
-			}
-		}
-		return false;
+	private static Color opposite(Color color) {
+		return color == Color.WHITE ? Color.BLACK : Color.WHITE;
 	}
 
 }
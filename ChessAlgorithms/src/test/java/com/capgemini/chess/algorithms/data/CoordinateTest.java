@@ -0,0 +1,37 @@
+package com.capgemini.chess.algorithms.data;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Test class for testing {@link Coordinate}
+ * 
+ * @author TMAZUREK
+ *
+ */
+public class CoordinateTest {
+
+	@Test
+	public void shouldReturnSharedInstanceForFieldOfBoard() {
+		// when
+		Coordinate first = Coordinate.of(4, 3);
+		Coordinate second = Coordinate.of(4, 3);
+
+		// then
+		assertSame(first, second);
+		assertSame(first, Coordinate.of(28));
+		assertEquals(28, first.getIndex());
+		assertEquals(new Coordinate(4, 3), first);
+	}
+
+	@Test
+	public void shouldCreateCoordinateOutOfBoard() {
+		// when
+		Coordinate coordinate = Coordinate.of(-1, 8);
+
+		// then
+		assertEquals(-1, coordinate.getX());
+		assertEquals(8, coordinate.getY());
+	}
+}
@@ -0,0 +1,65 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.pieces.*;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.serialization.FenSerializer;
+
+/**
+ * Test class for testing {@link BoardSnapshot}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class BoardSnapshotTest {
+
+	@Test
+	public void shouldKeepPositionOfCommittedMove() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		BoardSnapshot afterFirstMove = boardManager.getSnapshot();
+
+		// when
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 3), new Coordinate(3, 4));
+		BoardSnapshot afterCapture = boardManager.getSnapshot();
+
+		// then
+		assertEquals(new Pawn(Color.WHITE), afterFirstMove.getPieceAt(new Coordinate(4, 3)));
+		assertNull(afterFirstMove.getPieceAt(new Coordinate(4, 1)));
+		assertEquals(1, afterFirstMove.getMoveCount());
+		assertEquals(Color.BLACK, afterFirstMove.getNextMoveColor());
+		assertEquals(new Pawn(Color.WHITE), afterCapture.getPieceAt(new Coordinate(3, 4)));
+		assertEquals(3, afterCapture.getMoveCount());
+		assertEquals(MoveType.CAPTURE, afterCapture.getLastMove().getType());
+		assertEquals(new Coordinate(4, 3), afterCapture.getMoves().get(0).getTo());
+		assertEquals(FenSerializer.write(boardManager.getBoard()), FenSerializer.write(afterCapture.toBoard()));
+	}
+
+	@Test
+	public void shouldNotShareMovesTakenBack() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+
+		// when
+		boardManager.unmakeMove();
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		BoardSnapshot snapshot = boardManager.getSnapshot();
+
+		// then
+		assertEquals(2, snapshot.getMoveCount());
+		assertEquals(new Coordinate(4, 3), snapshot.getMoves().get(0).getTo());
+		assertEquals(new Coordinate(3, 4), snapshot.getMoves().get(1).getTo());
+		assertEquals(boardManager.getBoard().getPositionKey(), snapshot.getPositionKey());
+	}
+}
@@ -0,0 +1,153 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.pieces.*;
+import com.capgemini.chess.algorithms.validators.CheckValidator;
+
+/**
+ * Test class for testing {@link Board}
+ * 
+ * @author TMAZUREK
+ *
+ */
+public class BoardTest {
+
+	@Test
+	public void shouldUpdateBitboardsWhenPieceIsSet() {
+		// given
+		Board board = new Board();
+
+		// when
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(4, 6));
+
+		// then
+		assertEquals(1L << 1, board.getBitboard(Color.WHITE, PieceType.KNIGHT));
+		assertEquals(1L << 52, board.getBitboard(Color.BLACK, PieceType.PAWN));
+		assertEquals(1L << 1, board.getOccupancy(Color.WHITE));
+		assertEquals(1L << 1 | 1L << 52, board.getOccupancy());
+	}
+
+	@Test
+	public void shouldClearBitboardsWhenPieceIsReplaced() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+
+		// when
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(0, 0));
+		board.setPieceAt(null, new Coordinate(0, 0));
+
+		// then
+		assertEquals(0L, board.getBitboard(Color.WHITE, PieceType.ROOK));
+		assertEquals(0L, board.getBitboard(Color.BLACK, PieceType.BISHOP));
+		assertEquals(0L, board.getOccupancy());
+	}
+
+	@Test
+	public void shouldCompareBoardsByPlacement() {
+		// given
+		Board first = new Board();
+		Board second = new Board();
+		first.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 0));
+		second.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 0));
+
+		// when
+		boolean equalBefore = first.hasSamePlacement(second);
+		second.setPieceAt(new Queen(Color.BLACK), new Coordinate(3, 0));
+		boolean equalAfter = first.hasSamePlacement(second);
+
+		// then
+		assertTrue(equalBefore);
+		assertFalse(equalAfter);
+	}
+
+	@Test
+	public void shouldReportCastlingRightsOnlyForPiecesOnInitialFields() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
+
+		// when
+		int rightsBefore = board.getCastlingRights();
+		board.clearCastlingRights(7);
+		int rightsAfter = board.getCastlingRights();
+
+		// then
+		assertEquals(Board.ALL_CASTLING & ~Board.BLACK_KINGSIDE_CASTLING, rightsBefore);
+		assertEquals(Board.WHITE_QUEENSIDE_CASTLING | Board.BLACK_QUEENSIDE_CASTLING, rightsAfter);
+	}
+
+	@Test
+	public void shouldTrackKingSquares() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+
+		// when
+		board.setPieceAt(null, new Coordinate(4, 0));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(5, 1));
+		board.setPieceAt(new Queen(Color.WHITE), new Coordinate(4, 7));
+
+		// then
+		assertEquals(13, board.getKingSquare(Color.WHITE));
+		assertEquals(-1, board.getKingSquare(Color.BLACK));
+	}
+
+	@Test
+	public void shouldUpdateAttackMapWhenPlacementChanges() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(0, 3));
+		long attacksBefore = board.getAttacks(Color.WHITE);
+		long pawnAttacks = board.getAttacks(Color.BLACK);
+
+		// when
+		board.setPieceAt(null, new Coordinate(0, 3));
+		long attacksAfter = board.getAttacks(Color.WHITE);
+
+		// then
+		assertEquals(0xFEL | 0x01010100L, attacksBefore);
+		assertEquals(0xFEL | 0x0101010101010100L, attacksAfter);
+		assertEquals(1L << (2 * 8 + 1), pawnAttacks);
+	}
+
+	@Test
+	public void shouldKeepAttackMapsAndCountsUpToDate() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(3, 3));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(6, 6));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(0, 5));
+
+		// when
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(0, 3));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(0, 3));
+		board.setPieceAt(null, new Coordinate(3, 3));
+		board.setPieceAt(null, new Coordinate(0, 5));
+
+		// then
+		assertEquals(1, board.getAttackerCount(Color.WHITE, 9));
+		assertEquals(1, board.getAttackerCount(Color.BLACK, 9));
+		for (Color color : Color.values()) {
+			assertEquals(board.getAttacks(color, board.getOccupancy()), board.getAttacks(color));
+			for (int square = 0; square < Board.SIZE * Board.SIZE; square++) {
+				long attackers = CheckValidator.getAttackers(square, color, board, board.getOccupancy());
+				assertEquals(Long.bitCount(attackers), board.getAttackerCount(color, square));
+			}
+		}
+	}
+}
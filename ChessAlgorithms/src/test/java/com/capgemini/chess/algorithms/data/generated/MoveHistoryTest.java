@@ -0,0 +1,91 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.pieces.*;
+
+/**
+ * Test class for testing {@link MoveHistory}
+ * 
+ * @author TMAZUREK
+ *
+ */
+public class MoveHistoryTest {
+
+	@Test
+	public void shouldReturnAddedMoves() {
+		// given
+		MoveHistory history = new MoveHistory();
+		Move move = new Move();
+		move.setFrom(new Coordinate(6, 0));
+		move.setTo(new Coordinate(5, 2));
+		move.setType(MoveType.ATTACK);
+		move.setMovedPiece(new Knight(Color.WHITE));
+
+		// when
+		for (int i = 0; i < 20; i++) {
+			history.add(move);
+		}
+		history.addPacked(PackedMove.pack(51, 58, MoveType.CAPTURE, PieceType.QUEEN), new Pawn(Color.BLACK));
+
+		// then
+		assertEquals(21, history.size());
+		Move first = history.get(0);
+		assertEquals(move.getFrom(), first.getFrom());
+		assertEquals(move.getTo(), first.getTo());
+		assertEquals(MoveType.ATTACK, first.getType());
+		assertEquals(new Knight(Color.WHITE), first.getMovedPiece());
+		assertEquals(PieceType.QUEEN, PackedMove.getPromotion(history.getPacked(20)));
+		assertEquals(new Pawn(Color.BLACK), history.getMovedPiece(20));
+	}
+
+	@Test
+	public void shouldRemoveMoves() {
+		// given
+		MoveHistory history = new MoveHistory();
+		history.addPacked(PackedMove.pack(12, 28, MoveType.ATTACK, null), null);
+		history.addPacked(PackedMove.pack(52, 36, MoveType.ATTACK, null), null);
+
+		// when
+		Move removed = history.remove(0);
+
+		// then
+		assertEquals(new Coordinate(4, 3), removed.getTo());
+		assertNull(removed.getMovedPiece());
+		assertEquals(1, history.size());
+		assertEquals(36, PackedMove.getTo(history.getPacked(0)));
+	}
+
+	@Test
+	public void shouldResetHalfmoveClockOnPawnMoveAndCapture() {
+		// given
+		MoveHistory history = new MoveHistory();
+		history.setInitialHalfmoveClock(10);
+		history.addPacked(PackedMove.pack(6, 21, MoveType.ATTACK, null), new Knight(Color.WHITE));
+		int afterKnightMove = history.getHalfmoveClock();
+		history.addPacked(PackedMove.pack(52, 36, MoveType.ATTACK, null), new Pawn(Color.BLACK));
+		int afterPawnMove = history.getHalfmoveClock();
+		history.addPacked(PackedMove.pack(21, 36, MoveType.CAPTURE, null), new Knight(Color.WHITE));
+		history.addPacked(PackedMove.pack(62, 45, MoveType.ATTACK, null), new Knight(Color.BLACK));
+		int afterCaptureAndKnightMove = history.getHalfmoveClock();
+
+		// when
+		history.remove(history.size() - 1);
+		history.remove(history.size() - 1);
+		history.remove(history.size() - 1);
+
+		// then
+		assertEquals(11, afterKnightMove);
+		assertEquals(0, afterPawnMove);
+		assertEquals(1, afterCaptureAndKnightMove);
+		assertEquals(11, history.getHalfmoveClock());
+	}
+}
@@ -0,0 +1,127 @@
+package com.capgemini.chess.algorithms.engine;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.BoardSnapshot;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.serialization.FenSerializer;
+
+/**
+ * Test class for testing {@link Engine}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class EngineTest {
+
+	@Test
+	public void shouldFindMateInOne() {
+		// given
+		BoardManager boardManager = new BoardManager("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+
+		// when
+		SearchResult result = new Engine().search(boardManager, SearchLimits.depth(4));
+
+		// then
+		Move move = result.getBestMove();
+		assertEquals(new Coordinate(0, 0), move.getFrom());
+		assertEquals(new Coordinate(0, 7), move.getTo());
+		assertTrue(result.isMate());
+		assertTrue(result.getScore() > 0);
+	}
+
+	@Test
+	public void shouldCaptureHangingQueen() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/3q4/8/2N5/8/4K3 w - - 0 1");
+
+		// when
+		SearchResult result = new Engine().search(boardManager, SearchLimits.depth(3));
+
+		// then
+		Move move = result.getBestMove();
+		assertEquals(MoveType.CAPTURE, move.getType());
+		assertEquals(new Coordinate(3, 4), move.getTo());
+		assertEquals(3, result.getDepth());
+		assertTrue(result.getScore() > 200);
+	}
+
+	@Test
+	public void shouldUnderpromoteToForkKingAndQueen() {
+		// given
+		BoardManager boardManager = new BoardManager("8/4P1k1/3q4/8/8/8/8/4K3 w - - 0 1");
+
+		// when
+		SearchResult result = new Engine().search(boardManager, SearchLimits.depth(4));
+
+		// then
+		Move move = result.getBestMove();
+		assertEquals(new Coordinate(4, 6), move.getFrom());
+		assertEquals(new Coordinate(4, 7), move.getTo());
+		assertEquals(PieceType.KNIGHT, result.getPromotion());
+		assertTrue(result.getScore() > 200);
+	}
+
+	@Test
+	public void shouldLeaveBoardUnchangedAndRespectNodeLimit() {
+		// given
+		String fen = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+		BoardManager boardManager = new BoardManager(fen);
+
+		// when
+		SearchResult result = new Engine().search(boardManager, new SearchLimits(SearchLimits.MAX_DEPTH, 0, 20000));
+
+		// then
+		assertEquals(fen, FenSerializer.write(boardManager.getBoard()));
+		assertNotNull(result.getBestMove());
+		assertTrue(result.getDepth() >= 1 && result.getDepth() < SearchLimits.MAX_DEPTH);
+		assertTrue(result.getNodes() <= 20000 || result.getDepth() == 1);
+		assertTrue(result.getNodesPerSecond() > 0);
+	}
+
+	@Test
+	public void shouldReuseTranspositionTableInNextSearch() {
+		// given
+		String fen = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+		Engine engine = new Engine(new TranspositionTable(4));
+		SearchResult first = engine.search(new BoardManager(fen), SearchLimits.depth(4));
+
+		// when
+		SearchResult second = engine.search(new BoardManager(fen), SearchLimits.depth(4));
+
+		// then
+		assertEquals(first.getBestMove().getFrom(), second.getBestMove().getFrom());
+		assertEquals(first.getBestMove().getTo(), second.getBestMove().getTo());
+		assertTrue(second.getNodes() < first.getNodes());
+	}
+
+	@Test
+	public void shouldSearchWithHelperThreads() throws InvalidMoveException {
+		// given
+		BoardManager game = new BoardManager();
+		game.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		// board with a move history which cannot be taken back by the manager
+		BoardManager boardManager = new BoardManager(game.getBoard());
+		String fen = FenSerializer.write(boardManager.getBoard());
+		BoardSnapshot snapshot = boardManager.getSnapshot();
+		Engine engine = new Engine(new TranspositionTable(4), 4);
+
+		// when
+		SearchResult result = engine.search(boardManager, SearchLimits.depth(5));
+
+		// then
+		assertEquals(fen, FenSerializer.write(boardManager.getBoard()));
+		assertEquals(1, boardManager.getBoard().getMoveHistory().size());
+		assertSame(snapshot, boardManager.getSnapshot());
+		assertNotNull(result.getBestMove());
+		assertTrue(result.getDepth() >= 5);
+		assertTrue(result.getNodes() > 0);
+	}
+}
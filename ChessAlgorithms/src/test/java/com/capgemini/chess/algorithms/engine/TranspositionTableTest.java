@@ -0,0 +1,78 @@
+package com.capgemini.chess.algorithms.engine;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Test class for testing {@link TranspositionTable}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class TranspositionTableTest {
+
+	@Test
+	public void shouldStoreAndProbeEntry() {
+		// given
+		TranspositionTable table = new TranspositionTable(3);
+		long key = 0x9E3779B97F4A7C15L;
+		int move = PackedMove.pack(52, 60, MoveType.ATTACK, PieceType.QUEEN);
+
+		// when
+		table.store(key, move, -Search.MATE + 7, 12, TranspositionTable.BOUND_UPPER);
+		long data = table.probe(key);
+
+		// then
+		assertEquals(2L << 20, table.getSizeBytes());
+		assertEquals(move, TranspositionTable.getMove(data));
+		assertEquals(-Search.MATE + 7, TranspositionTable.getScore(data));
+		assertEquals(12, TranspositionTable.getDepth(data));
+		assertEquals(TranspositionTable.BOUND_UPPER, TranspositionTable.getBound(data));
+		assertEquals(0, table.probe(key + 1));
+	}
+
+	@Test
+	public void shouldKeepDeeperEntryOfCurrentSearch() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		long deepKey = 12345L;
+		long otherKey = deepKey + (1L << 40);
+		long thirdKey = deepKey + (2L << 40);
+		table.store(deepKey, 0, 100, 10, TranspositionTable.BOUND_EXACT);
+
+		// when
+		table.store(otherKey, 0, 50, 2, TranspositionTable.BOUND_LOWER);
+		table.store(thirdKey, 0, 25, 3, TranspositionTable.BOUND_LOWER);
+
+		// then
+		assertEquals(10, TranspositionTable.getDepth(table.probe(deepKey)));
+		assertEquals(0, table.probe(otherKey));
+		assertEquals(3, TranspositionTable.getDepth(table.probe(thirdKey)));
+
+		// when
+		table.newSearch();
+		table.store(otherKey, 0, 50, 2, TranspositionTable.BOUND_LOWER);
+
+		// then
+		assertEquals(0, table.probe(deepKey));
+		assertEquals(2, TranspositionTable.getDepth(table.probe(otherKey)));
+	}
+
+	@Test
+	public void shouldRemoveEntriesOnClear() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		table.store(42L, 0, 0, 1, TranspositionTable.BOUND_EXACT);
+
+		// when
+		table.clear();
+
+		// then
+		assertEquals(0, table.probe(42L));
+	}
+}
@@ -3,16 +3,20 @@ package com.capgemini.chess.algorithms.implementation;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Ignore;
 import org.junit.Test;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.data.pieces.*;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
@@ -645,6 +649,29 @@ public class BoardManagerTest {
 		assertTrue(exceptionThrown);
 	}
 
+	@Test
+	public void testTryValidateMoveReturnsNullForRejectedMoves() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(4, 5));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		Move kingInCheck = boardManager.tryValidateMove(new Coordinate(4, 5), new Coordinate(7, 2));
+		Move invalid = boardManager.tryValidateMove(new Coordinate(4, 5), new Coordinate(4, 6));
+		Move outOfBoard = boardManager.tryValidateMove(new Coordinate(8, 0), new Coordinate(7, 0));
+		Move valid = boardManager.tryValidateMove(new Coordinate(4, 0), new Coordinate(3, 0));
+
+		// then
+		assertNull(kingInCheck);
+		assertNull(invalid);
+		assertNull(outOfBoard);
+		assertEquals(MoveType.ATTACK, valid.getType());
+		assertEquals(new King(Color.WHITE), board.getPieceAt(new Coordinate(4, 0)));
+	}
+
 	@Test
 	public void testUpdateBoardStateRegular() throws InvalidMoveException {
 		// given
@@ -690,6 +717,26 @@ public class BoardManagerTest {
 		assertEquals(BoardState.CHECK_MATE, boardState);
 	}
 
+	@Test
+	public void testUpdateBoardStateAfterBoardChange() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.getMoveHistory().add(createDummyMove(board));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 1));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 0));
+		BoardManager boardManager = new BoardManager(board);
+		BoardState stateBeforeChange = boardManager.updateBoardState();
+
+		// when
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(1, 0));
+		BoardState stateAfterChange = boardManager.updateBoardState();
+
+		// then
+		assertEquals(BoardState.REGULAR, stateBeforeChange);
+		assertEquals(BoardState.CHECK_MATE, stateAfterChange);
+		assertEquals(BoardState.CHECK_MATE, board.getState());
+	}
+
 	@Test
 	public void testUpdateBoardStateStaleMate() throws InvalidMoveException {
 		// given
@@ -745,6 +792,29 @@ public class BoardManagerTest {
 		assertTrue(isThreefoldRepetition);
 	}
 
+	@Test
+	public void testCopyDetectsRepetitionsOfOriginal() throws InvalidMoveException {
+		// given
+		BoardManager original = new BoardManager();
+		for (int i = 0; i < 2; i++) {
+			original.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+			original.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+			original.performMove(new Coordinate(5, 2), new Coordinate(6, 0));
+			original.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+		}
+		BoardManager copy = new BoardManager(original);
+
+		// when
+		copy.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		boolean copyRepetition = copy.checkThreefoldRepetitionRule();
+
+		// then
+		assertTrue(copyRepetition);
+		assertEquals(9, copy.getBoard().getMoveHistory().size());
+		assertEquals(8, original.getBoard().getMoveHistory().size());
+		assertNull(original.getBoard().getPieceAt(new Coordinate(5, 2)));
+	}
+
 	@Test
 	public void testCheckThreefoldRepetitionRuleUnsuccessful() {
 		// given
@@ -781,6 +851,84 @@ public class BoardManagerTest {
 		assertFalse(isThreefoldRepetition);
 	}
 
+	@Test
+	public void testCheckThreefoldRepetitionRuleKnightsReturning() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		for (int i = 0; i < 2; i++) {
+			boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+			boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+			boardManager.performMove(new Coordinate(5, 2), new Coordinate(6, 0));
+			boardManager.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+		}
+
+		// when
+		boolean isThreefoldRepetition = boardManager.checkThreefoldRepetitionRule();
+
+		// then
+		assertTrue(isThreefoldRepetition);
+	}
+
+	@Test
+	public void testPiecesAreSharedBetweenBoards() throws InvalidMoveException {
+		// given
+		BoardManager first = new BoardManager();
+		BoardManager second = new BoardManager();
+
+		// when
+		first.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+
+		// then
+		assertSame(first.getBoard().getPieceAt(new Coordinate(4, 3)),
+				second.getBoard().getPieceAt(new Coordinate(4, 1)));
+		assertSame(first.getBoard().getPieceAt(new Coordinate(3, 0)), Pieces.of(Color.WHITE, PieceType.QUEEN));
+	}
+
+	@Test
+	public void testCastlingRightsLostWhenRookIsCapturedAndRestoredByUnmake() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(0, 1));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(2, 5));
+		BoardManager boardManager = new BoardManager(board);
+		boardManager.performMove(new Coordinate(0, 1), new Coordinate(0, 2));
+
+		// when
+		boardManager.performMove(new Coordinate(2, 5), new Coordinate(7, 0));
+		int rightsAfterCapture = board.getCastlingRights();
+		boardManager.unmakeMove();
+		int rightsAfterUnmake = board.getCastlingRights();
+
+		// then
+		assertEquals(0, rightsAfterCapture);
+		assertEquals(Board.WHITE_KINGSIDE_CASTLING, rightsAfterUnmake);
+	}
+
+	@Test
+	public void testCheckThreefoldRepetitionRuleLostCastlingRights() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		BoardManager boardManager = new BoardManager(board);
+		for (int i = 0; i < 2; i++) {
+			boardManager.performMove(new Coordinate(4, 0), new Coordinate(3, 0));
+			boardManager.performMove(new Coordinate(4, 7), new Coordinate(3, 7));
+			boardManager.performMove(new Coordinate(3, 0), new Coordinate(4, 0));
+			boardManager.performMove(new Coordinate(3, 7), new Coordinate(4, 7));
+		}
+
+		// when
+		boolean isThreefoldRepetition = boardManager.checkThreefoldRepetitionRule();
+
+		// then
+		assertFalse(isThreefoldRepetition);
+	}
+
 	@Test
 	public void testCheckFiftyMoveRuleSuccessful() {
 		// given
@@ -926,6 +1074,246 @@ public class BoardManagerTest {
 		assertEquals(null, board.getPieceAt(new Coordinate(2,3)));
 	}
 
+	@Test
+	public void testGenerateLegalMovesInitialPosition() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		int[] moves = new int[BoardManager.MAX_LEGAL_MOVES];
+
+		// when
+		int count = boardManager.generateLegalMoves(moves);
+
+		// then
+		assertEquals(20, count);
+	}
+
+	@Test
+	public void testGenerateLegalMovesPerftDepthThree() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		long nodes = perft(boardManager, 3);
+
+		// then
+		assertEquals(8902, nodes);
+	}
+
+	@Test
+	public void testGenerateLegalMovesPerftWithCastlingAndEnPassant() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 7));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(0, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(3, 6));
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(4, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(5, 6));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(6, 6));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(0, 5));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(1, 5));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(4, 5));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(5, 5));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(6, 5));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(3, 4));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(4, 4));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(1, 3));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(4, 3));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(2, 2));
+		board.setPieceAt(new Queen(Color.WHITE), new Coordinate(5, 2));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(7, 2));
+		for (int x = 0; x < Board.SIZE; x++) {
+			if (x != 3 && x != 4) {
+				board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(x, 1));
+			}
+		}
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(3, 1));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(4, 1));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		long nodes = perft(boardManager, 3);
+
+		// then
+		assertEquals(97862, nodes);
+	}
+
+	@Test
+	public void testGenerateLegalMovesPerftFromFen() {
+		// given
+		BoardManager boardManager = new BoardManager(
+				"r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10");
+
+		// when
+		long nodes = perft(boardManager, 3);
+
+		// then
+		assertEquals(89890, nodes);
+	}
+
+	@Test
+	public void testGenerateLegalMovesPerftWithPromotions() {
+		// given
+		BoardManager boardManager = new BoardManager("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+
+		// when
+		long nodes = perft(boardManager, 3);
+
+		// then
+		assertEquals(62379, nodes);
+	}
+
+	@Test
+	public void testPerformMoveEnPassantFromFen() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/3pP3/8/8/4K3 b - e3 0 1");
+
+		// when
+		Move move = boardManager.performMove(new Coordinate(3, 3), new Coordinate(4, 2));
+
+		// then
+		assertEquals(MoveType.EN_PASSANT, move.getType());
+		assertNull(boardManager.getBoard().getPieceAt(new Coordinate(4, 3)));
+	}
+
+	@Test
+	public void testGenerateLegalMovesPerftWithPins() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(0, 4));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 4));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(1, 3));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(4, 1));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(6, 1));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(3, 5));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 4));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(5, 3));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 3));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		long nodes = perft(boardManager, 4);
+
+		// then
+		assertEquals(43238, nodes);
+	}
+
+	@Test
+	public void testUnmakeMoveRestoresPosition() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		long initialKey = boardManager.getBoard().getPositionKey();
+		String[] moves = { "e2e4", "d7d5", "e4d5", "c7c5", "d5c6", "b8c6", "g1f3", "e7e5", "f1b5", "g8f6",
+				"e1g1", "f6e4" };
+		for (String move : moves) {
+			boardManager.performMove(new Coordinate(move.charAt(0) - 'a', move.charAt(1) - '1'),
+					new Coordinate(move.charAt(2) - 'a', move.charAt(3) - '1'));
+		}
+
+		// when
+		for (int i = 0; i < moves.length; i++) {
+			boardManager.unmakeMove();
+		}
+
+		// then
+		assertTrue(boardManager.getBoard().hasSamePlacement(new BoardManager().getBoard()));
+		assertEquals(initialKey, boardManager.getBoard().getPositionKey());
+		assertEquals(Board.WHITE_KINGSIDE_CASTLING | Board.WHITE_QUEENSIDE_CASTLING | Board.BLACK_KINGSIDE_CASTLING
+				| Board.BLACK_QUEENSIDE_CASTLING, boardManager.getBoard().getCastlingRights());
+		assertTrue(boardManager.getBoard().getMoveHistory().isEmpty());
+	}
+
+	@Test
+	public void testUnmakeMoveRestoresPromotedPawn() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 6));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(0, 7));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		BoardManager boardManager = new BoardManager(board);
+		boardManager.performMove(new Coordinate(1, 6), new Coordinate(0, 7));
+
+		// when
+		Move move = boardManager.unmakeMove();
+
+		// then
+		assertEquals(MoveType.CAPTURE, move.getType());
+		assertEquals(new Pawn(Color.WHITE), board.getPieceAt(new Coordinate(1, 6)));
+		assertEquals(new Knight(Color.BLACK), board.getPieceAt(new Coordinate(0, 7)));
+		assertEquals(Color.WHITE, board.getNextMoveColor());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testUnmakeMoveWithoutMoves() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		boardManager.unmakeMove();
+	}
+
+	@Test
+	public void testGenerateLegalMovesAcceptedByPerformMove() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 4));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(6, 6));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(2, 3));
+		BoardManager setupManager = new BoardManager(board);
+		setupManager.performMove(new Coordinate(7, 0), new Coordinate(7, 1));
+		setupManager.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+		int[] moves = new int[BoardManager.MAX_LEGAL_MOVES];
+
+		// when
+		int count = setupManager.generateLegalMoves(moves);
+
+		// then
+		boolean enPassantFound = false;
+		Set<PieceType> promotions = EnumSet.noneOf(PieceType.class);
+		boolean castlingFound = false;
+		for (int i = 0; i < count; i++) {
+			Move move = PackedMove.toMove(moves[i], board);
+			assertNotNull(setupManager.tryValidateMove(move.getFrom(), move.getTo()));
+			enPassantFound |= move.getType() == MoveType.EN_PASSANT;
+			castlingFound |= move.getType() == MoveType.CASTLING;
+			if (PackedMove.getPromotion(moves[i]) != null) {
+				promotions.add(PackedMove.getPromotion(moves[i]));
+			}
+		}
+		assertTrue(enPassantFound);
+		assertEquals(EnumSet.of(PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT), promotions);
+		// the h1 rook has moved, only queenside castling stays possible
+		assertTrue(castlingFound);
+		assertNull(setupManager.tryValidateMove(new Coordinate(4, 0), new Coordinate(6, 0)));
+	}
+
+	private long perft(BoardManager boardManager, int depth) {
+		int[] legalMoves = new int[BoardManager.MAX_LEGAL_MOVES];
+		int count = boardManager.generateLegalMoves(legalMoves);
+		if (depth == 1) {
+			return count;
+		}
+		long nodes = 0;
+		for (int i = 0; i < count; i++) {
+			boardManager.makeMove(legalMoves[i]);
+			nodes += perft(boardManager, depth - 1);
+			boardManager.unmakeMove();
+		}
+		return nodes;
+	}
+
 	private Move createDummyMove(Board board) {
 
 		Move move = new Move();
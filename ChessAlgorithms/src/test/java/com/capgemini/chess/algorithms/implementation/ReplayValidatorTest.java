@@ -0,0 +1,92 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+
+/**
+ * Test class for testing {@link ReplayValidator}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class ReplayValidatorTest {
+
+	@Test
+	public void shouldReportFirstIllegalMoveAndFinalState() {
+		// given
+		List<Move> foolsMate = Arrays.asList(move(5, 1, 5, 2), move(4, 6, 4, 4), move(6, 1, 6, 3),
+				move(3, 7, 7, 3));
+		List<Move> illegal = Arrays.asList(move(4, 1, 4, 3), move(4, 6, 4, 4), move(4, 3, 4, 4));
+		Move wrongType = move(6, 0, 5, 2);
+		wrongType.setType(MoveType.CAPTURE);
+		List<List<Move>> games = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			games.add(foolsMate);
+			games.add(illegal);
+			games.add(Collections.singletonList(wrongType));
+			games.add(Collections.<Move> emptyList());
+		}
+		ReplayValidator validator = new ReplayValidator(new ForkJoinPool(4));
+
+		// when
+		List<ReplayResult> results = validator.validateAll(games);
+
+		// then
+		assertEquals(games.size(), results.size());
+		assertEquals(IntStream.range(0, games.size()).boxed().collect(Collectors.toList()),
+				results.stream().map(ReplayResult::getGameIndex).collect(Collectors.toList()));
+		for (int i = 0; i < games.size(); i += 4) {
+			assertTrue(results.get(i).isValid());
+			assertEquals(BoardState.CHECK_MATE, results.get(i).getFinalState());
+			assertEquals(2, results.get(i + 1).getFirstIllegalMove());
+			assertEquals(BoardState.REGULAR, results.get(i + 1).getFinalState());
+			assertEquals(0, results.get(i + 2).getFirstIllegalMove());
+			assertTrue(results.get(i + 3).isValid());
+			assertEquals(BoardState.REGULAR, results.get(i + 3).getFinalState());
+		}
+	}
+
+	@Test
+	public void shouldValidateStreamOfMoreThanOneChunk() {
+		// given
+		List<Move> foolsMate = Arrays.asList(move(5, 1, 5, 2), move(4, 6, 4, 4), move(6, 1, 6, 3),
+				move(3, 7, 7, 3));
+		List<Move> illegal = Arrays.asList(move(4, 1, 4, 3), move(4, 3, 4, 5));
+		int gameCount = 3000;
+		ReplayValidator validator = new ReplayValidator(new ForkJoinPool(4));
+
+		// when
+		List<ReplayResult> results = validator
+				.validateAll(IntStream.range(0, gameCount).mapToObj(i -> i % 2 == 0 ? foolsMate : illegal));
+
+		// then
+		assertEquals(gameCount, results.size());
+		for (int i = 0; i < gameCount; i++) {
+			assertEquals(i, results.get(i).getGameIndex());
+			assertEquals(i % 2 == 0, results.get(i).isValid());
+		}
+		assertEquals(BoardState.CHECK_MATE, results.get(0).getFinalState());
+		assertEquals(1, results.get(1).getFirstIllegalMove());
+	}
+
+	private static Move move(int fromX, int fromY, int toX, int toY) {
+		Move move = new Move();
+		move.setFrom(new Coordinate(fromX, fromY));
+		move.setTo(new Coordinate(toX, toY));
+		return move;
+	}
+}
@@ -0,0 +1,76 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.*;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Test class for testing {@link FenSerializer}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class FenSerializerTest {
+
+	@Test
+	public void shouldWriteInitialPosition() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		String fen = FenSerializer.write(boardManager.getBoard());
+
+		// then
+		assertEquals(FenSerializer.INITIAL_POSITION, fen);
+	}
+
+	@Test
+	public void shouldReadPositionWithBlackToMoveAndEnPassant() {
+		// given
+		String fen = "rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b Kq e3 0 3";
+
+		// when
+		Board board = FenSerializer.read(fen);
+
+		// then
+		assertEquals(new Pawn(Color.BLACK), board.getPieceAt(3 * Board.SIZE + 3));
+		assertEquals(new Pawn(Color.WHITE), board.getPieceAt(3 * Board.SIZE + 4));
+		assertEquals(Color.BLACK, board.getNextMoveColor());
+		assertEquals(Board.WHITE_KINGSIDE_CASTLING | Board.BLACK_QUEENSIDE_CASTLING, board.getCastlingRights());
+		assertEquals(4, board.getEnPassantFile());
+		assertEquals(5, board.getPlyCount());
+		assertEquals(fen, FenSerializer.write(board));
+	}
+
+	@Test
+	public void shouldRestoreMoveCountersAfterMoves() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/8/R3K3 w Q - 12 40");
+
+		// when
+		boardManager.performMove(new Coordinate(0, 0), new Coordinate(0, 1));
+		String fen = FenSerializer.write(boardManager.getBoard());
+
+		// then
+		assertEquals("4k3/8/8/8/8/8/R7/4K3 b - - 13 40", fen);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectRankWithTooManyFields() {
+		// when
+		FenSerializer.read("rnbqkbnrp/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectEnPassantFieldOnWrongRank() {
+		// when
+		FenSerializer.read("rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b KQkq e6 0 3");
+	}
+}
@@ -0,0 +1,91 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+
+/**
+ * Test class for testing {@link PgnReader}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class PgnReaderTest {
+
+	private static final String PGN = "[Event \"Test \\\"one\\\"\"]\n"
+			+ "[White \"A\"]\n"
+			+ "[Black \"B\"]\n\n"
+			+ "1. e4 Nf6 2. e5 d5 3. exd6 e.p. {comment} Qxd6 4. d4 (4. Nf3 (4. f4) Nc6) Bf5 $1\n"
+			+ "5. Nc3 Nc6 6. Be3 O-O-O 7. Qd2 e5 ; line comment\n"
+			+ "8. O-O-O+ 1-0\n\n"
+			+ "[Event \"Test two\"]\n\n"
+			+ "1.Nf3 e6 2.d3 e5 3.Nbd2 *\n\n"
+			+ "[Event \"Test three\"]\n"
+			+ "[FEN \"4k3/P7/8/8/8/8/8/4K3 w - - 0 1\"]\n\n"
+			+ "1. a8=N Kd7 2. Nd2 *\n";
+
+	@Test
+	public void shouldReadGamesOneByOne() throws IOException {
+		// given
+		InputStream input = new ByteArrayInputStream(PGN.getBytes(StandardCharsets.UTF_8));
+
+		// when
+		List<PgnGame> games;
+		try (PgnReader reader = new PgnReader(input)) {
+			games = reader.stream().collect(Collectors.toList());
+		}
+
+		// then
+		assertEquals(3, games.size());
+
+		PgnGame first = games.get(0);
+		assertTrue(first.isValid());
+		assertEquals("Test \"one\"", first.getTag("Event"));
+		assertEquals("1-0", first.getResult());
+		assertEquals(15, first.getMoves().size());
+		assertEquals(MoveType.EN_PASSANT, first.getMoves().get(4).getType());
+		assertEquals("2kr1b1r/ppp2ppp/2nq1n2/4pb2/3P4/2N1B3/PPPQ1PPP/2KR1BNR b - - 1 8",
+				FenSerializer.write(first.getBoardManager().getBoard()));
+		assertEquals(15, first.getBoardManager().getSnapshot().getMoveCount());
+		assertEquals(first.getBoardManager().getBoard().getPositionKey(),
+				first.getBoardManager().getSnapshot().getPositionKey());
+
+		PgnGame second = games.get(1);
+		Move knightMove = second.getMoves().get(4);
+		assertEquals(new Coordinate(1, 0), knightMove.getFrom());
+		assertEquals(new Coordinate(3, 1), knightMove.getTo());
+
+		PgnGame third = games.get(2);
+		assertFalse(third.isValid());
+		assertEquals(2, third.getMoves().size());
+		assertTrue(third.getError().contains("Nd2"));
+		assertEquals("N7/3k4/8/8/8/8/8/4K3 w - - 1 2", FenSerializer.write(third.getBoardManager().getBoard()));
+	}
+
+	@Test
+	public void shouldReportAmbiguousMove() {
+		// given
+		PgnReader reader = new PgnReader(
+				new ByteArrayInputStream("1. Nf3 e6 2. d3 e5 3. Nd2 *".getBytes(StandardCharsets.UTF_8)));
+
+		// when
+		PgnGame game = reader.next();
+
+		// then
+		assertFalse(game.isValid());
+		assertEquals("Ambiguous SAN move: Nd2", game.getError());
+		assertEquals(4, game.getMoves().size());
+		assertFalse(reader.hasNext());
+	}
+}
@@ -0,0 +1,84 @@
+package com.capgemini.chess.algorithms.serialization;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Test class for testing {@link PositionStore} and {@link BinaryPosition}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class PositionStoreTest {
+
+	private static final String[] POSITIONS = { FenSerializer.INITIAL_POSITION,
+			"rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b Kq e3 0 3",
+			"r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 7 10" };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldEncodeAndDecodePositions() {
+		for (String fen : POSITIONS) {
+			// given
+			Board board = FenSerializer.read(fen);
+
+			// when
+			byte[] bytes = BinaryPosition.toBytes(board);
+			Board decoded = BinaryPosition.fromBytes(bytes);
+
+			// then
+			assertEquals(BinaryPosition.SIZE, bytes.length);
+			assertEquals(fen, FenSerializer.write(decoded));
+			assertEquals(board.getPositionKey(), decoded.getPositionKey());
+		}
+	}
+
+	@Test
+	public void shouldReadPositionsAfterReopening() throws IOException {
+		// given
+		Path file = folder.newFile().toPath();
+		try (PositionStore store = new PositionStore(file)) {
+			for (String fen : POSITIONS) {
+				store.append(FenSerializer.read(fen));
+			}
+		}
+
+		// when
+		try (PositionStore store = new PositionStore(file)) {
+			ByteBuffer record = store.getRecord(1);
+			Board board = store.readBoard(1);
+			BoardManager boardManager = store.readBoardManager(0);
+
+			// then
+			assertEquals(POSITIONS.length, store.size());
+			assertEquals(BinaryPosition.SIZE, record.remaining());
+			assertTrue(record.isReadOnly());
+			assertEquals(POSITIONS[1], FenSerializer.write(board));
+			assertEquals(BoardState.REGULAR, boardManager.updateBoardState());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldRejectIndexBeyondStoredPositions() throws IOException {
+		// given
+		try (PositionStore store = new PositionStore(folder.newFile().toPath())) {
+			store.append(FenSerializer.read(FenSerializer.INITIAL_POSITION));
+
+			// when
+			store.readBoard(1);
+		}
+	}
+}
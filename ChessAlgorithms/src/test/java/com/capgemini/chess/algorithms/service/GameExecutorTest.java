@@ -0,0 +1,75 @@
+package com.capgemini.chess.algorithms.service;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.serialization.FenSerializer;
+
+/**
+ * Test class for testing {@link GameExecutor}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class GameExecutorTest {
+
+	@Test
+	public void shouldRunOperationsOfGameInSubmissionOrder() {
+		try (GameExecutor executor = new GameExecutor()) {
+			// given
+			int gameCount = 100;
+			for (int i = 0; i < gameCount; i++) {
+				executor.createGame("game" + i);
+			}
+
+			// when
+			List<CompletableFuture<Move>> moves = new ArrayList<>();
+			for (int move = 0; move < 40; move++) {
+				Coordinate[] fields = KnightShuffle.fields(move);
+				for (int i = 0; i < gameCount; i++) {
+					moves.add(executor.performMove("game" + i, fields[0], fields[1]));
+				}
+			}
+			CompletableFuture<String> fen = executor.submit("game0",
+					boardManager -> FenSerializer.write(boardManager.getBoard()));
+			CompletableFuture<BoardState> state = executor.getBoardState("game1");
+
+			// then
+			CompletableFuture.allOf(moves.toArray(new CompletableFuture<?>[0])).join();
+			assertEquals(FenSerializer.INITIAL_POSITION.replace("0 1", "40 21"), fen.join());
+			assertEquals(BoardState.REGULAR, state.join());
+		}
+	}
+
+	@Test
+	public void shouldCompleteInvalidMoveExceptionallyAndContinue() throws Exception {
+		try (GameExecutor executor = new GameExecutor()) {
+			// given
+			executor.createGame("game");
+
+			// when
+			CompletableFuture<Move> invalid = executor.performMove("game", new Coordinate(4, 1),
+					new Coordinate(4, 4));
+			CompletableFuture<Move> valid = executor.performMove("game", new Coordinate(4, 1), new Coordinate(4, 3));
+
+			// then
+			try {
+				invalid.get();
+				fail("Invalid move should not be performed");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof InvalidMoveException);
+			}
+			assertEquals(new Coordinate(4, 3), valid.get().getTo());
+		}
+	}
+}
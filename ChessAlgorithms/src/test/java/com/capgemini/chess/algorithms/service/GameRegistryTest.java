@@ -0,0 +1,109 @@
+package com.capgemini.chess.algorithms.service;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.serialization.FenSerializer;
+
+/**
+ * Test class for testing {@link GameRegistry}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class GameRegistryTest {
+
+	@Test
+	public void shouldPlayGamesConcurrently() throws Exception {
+		// given
+		GameRegistry registry = new GameRegistry();
+		int gameCount = 8;
+		for (int i = 0; i < gameCount; i++) {
+			registry.createGame("game" + i);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(gameCount);
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < gameCount; i++) {
+			String gameId = "game" + i;
+			futures.add(executor.submit(() -> {
+				for (int move = 0; move < 200; move++) {
+					Coordinate[] fields = KnightShuffle.fields(move);
+					registry.performMove(gameId, fields[0], fields[1]);
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		for (int i = 0; i < gameCount; i++) {
+			assertEquals(FenSerializer.INITIAL_POSITION.replace("0 1", "200 101"), registry.getFen("game" + i));
+			assertEquals(BoardState.REGULAR, registry.getBoardState("game" + i));
+		}
+	}
+
+	@Test
+	public void shouldSerializeOperationsOnOneGame() throws Exception {
+		// given
+		GameRegistry registry = new GameRegistry();
+		registry.createGame("game");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		// when
+		List<Future<Integer>> futures = new ArrayList<>();
+		for (int thread = 0; thread < 4; thread++) {
+			futures.add(executor.submit(() -> {
+				int conflicts = 0;
+				for (int i = 0; i < 500; i++) {
+					conflicts += registry.execute("game", boardManager -> makeAndTakeBack(boardManager));
+				}
+				return conflicts;
+			}));
+		}
+		int conflicts = 0;
+		for (Future<Integer> future : futures) {
+			conflicts += future.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertEquals(0, conflicts);
+		assertEquals(FenSerializer.INITIAL_POSITION, registry.getFen("game"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectUnknownGame() throws InvalidMoveException {
+		// given
+		GameRegistry registry = new GameRegistry();
+
+		// when
+		registry.performMove("missing", new Coordinate(4, 1), new Coordinate(4, 3));
+	}
+
+	private static int makeAndTakeBack(BoardManager boardManager) {
+		try {
+			boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		} catch (InvalidMoveException e) {
+			return 1;
+		}
+		int conflict = boardManager.getBoard().getMoveHistory().size() == 1 ? 0 : 1;
+		boardManager.unmakeMove();
+		return conflict;
+	}
+}
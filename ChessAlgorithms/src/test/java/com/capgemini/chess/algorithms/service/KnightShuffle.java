@@ -0,0 +1,31 @@
+package com.capgemini.chess.algorithms.service;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+
+/**
+ * Knight moves of both players which come back to the initial position every
+ * four moves, so a game can be played for as long as a test needs
+ *
+ * @author TMAZUREK
+ *
+ */
+final class KnightShuffle {
+
+	private static final Coordinate[][] MOVES = { { new Coordinate(6, 0), new Coordinate(5, 2) },
+			{ new Coordinate(6, 7), new Coordinate(5, 5) }, { new Coordinate(5, 2), new Coordinate(6, 0) },
+			{ new Coordinate(5, 5), new Coordinate(6, 7) } };
+
+	private KnightShuffle() {
+	}
+
+	/**
+	 * Gets fields of the move
+	 *
+	 * @param move
+	 *            number of the move from the initial position, from 0
+	 * @return 'from' and 'to' fields of the move
+	 */
+	static Coordinate[] fields(int move) {
+		return MOVES[move % MOVES.length];
+	}
+}
@@ -0,0 +1,90 @@
+package com.capgemini.chess.algorithms.validators;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+
+/**
+ * Test class for testing {@link AttackTables}
+ * 
+ * @author TMAZUREK
+ *
+ */
+public class AttackTablesTest {
+
+	@Test
+	public void shouldStopRookAttacksOnFirstBlocker() {
+		// given
+		int rook = 3 * 8 + 3;
+		long occupancy = 1L << (3 * 8 + 5) | 1L << (1 * 8 + 3);
+
+		// when
+		long attacks = AttackTables.rookAttacks(rook, occupancy);
+
+		// then
+		assertTrue((attacks & 1L << (3 * 8 + 5)) != 0);
+		assertFalse((attacks & 1L << (3 * 8 + 6)) != 0);
+		assertTrue((attacks & 1L << (1 * 8 + 3)) != 0);
+		assertFalse((attacks & 1L << 3) != 0);
+		assertEquals(4 + 2 + 3 + 2, Long.bitCount(attacks));
+	}
+
+	@Test
+	public void shouldReachCornersWithBishopOnEmptyBoard() {
+		// given
+		int bishop = 0;
+
+		// when
+		long attacks = AttackTables.bishopAttacks(bishop, 0L);
+
+		// then
+		assertEquals(7, Long.bitCount(attacks));
+		assertTrue((attacks & 1L << 63) != 0);
+	}
+
+	@Test
+	public void shouldCombineRookAndBishopAttacksForQueen() {
+		// given
+		int queen = 4 * 8 + 4;
+		long occupancy = 1L << (6 * 8 + 6);
+
+		// when
+		long attacks = AttackTables.queenAttacks(queen, occupancy);
+
+		// then
+		assertEquals(AttackTables.rookAttacks(queen, occupancy) | AttackTables.bishopAttacks(queen, occupancy),
+				attacks);
+		assertFalse((attacks & 1L << 63) != 0);
+	}
+
+	@Test
+	public void shouldAttackDiagonallyForwardWithPawns() {
+		// when
+		long white = AttackTables.pawnAttacks(Color.WHITE, 1 * 8 + 0);
+		long black = AttackTables.pawnAttacks(Color.BLACK, 6 * 8 + 4);
+
+		// then
+		assertEquals(1L << (2 * 8 + 1), white);
+		assertEquals(1L << (5 * 8 + 3) | 1L << (5 * 8 + 5), black);
+	}
+
+	@Test
+	public void shouldFindFieldsBetweenAlignedFields() {
+		// given
+		int a1 = 0;
+		int h8 = 63;
+		int b3 = 2 * 8 + 1;
+
+		// when
+		long diagonal = AttackTables.between(a1, h8);
+		long notAligned = AttackTables.between(a1, b3);
+		long line = AttackTables.line(b3, 2 * 8 + 6);
+
+		// then
+		assertEquals(0x0040201008040200L, diagonal);
+		assertEquals(0L, notAligned);
+		assertEquals(0xFFL << 16, line);
+	}
+}
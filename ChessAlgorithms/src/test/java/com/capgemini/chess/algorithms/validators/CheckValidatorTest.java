@@ -215,4 +215,73 @@ public class CheckValidatorTest {
 		assertTrue(result);
 	}
 
+	@Test
+	public void shouldBeCheckedByAdjacentKing() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 4));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(5, 5));
+
+		// when
+		boolean result = CheckValidator.isInCheck(Color.WHITE, board);
+
+		// then
+		assertTrue(result);
+	}
+
+	@Test
+	public void shouldNotBeCheckedBehindBlockingPieceOnBoard() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(4, 3));
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(4, 7));
+
+		// when
+		boolean result = CheckValidator.isInCheck(Color.WHITE, board);
+
+		// then
+		assertFalse(result);
+	}
+
+	@Test
+	public void shouldFindPinnedPiecesAndEvasionMask() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(4, 3));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(2, 2));
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(0, 4));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 0));
+
+		// when
+		long pinned = CheckValidator.getPinnedPieces(Color.WHITE, board);
+		long checkers = CheckValidator.getCheckers(Color.WHITE, board);
+		long evasionMask = CheckValidator.getEvasionMask(4, checkers);
+
+		// then
+		assertEquals(1L << (3 * 8 + 4) | 1L << (2 * 8 + 2), pinned);
+		assertEquals(1L << 7, checkers);
+		assertEquals(1L << 5 | 1L << 6 | 1L << 7, evasionMask);
+	}
+
+	@Test
+	public void shouldCountAttackersOfField() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(5, 2));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(3, 1));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(7, 3));
+
+		// when
+		int attackers = CheckValidator.countAttackers(4, Color.BLACK, board);
+
+		// then
+		assertEquals(3, attackers);
+		assertTrue(CheckValidator.isAttacked(4, Color.BLACK, board));
+		assertTrue(CheckValidator.isAttacked(4, Color.WHITE, board));
+	}
+
 }
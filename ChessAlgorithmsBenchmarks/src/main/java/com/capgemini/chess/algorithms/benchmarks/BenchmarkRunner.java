@@ -0,0 +1,36 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Runs the benchmarks selected on the
+ * command line (all by default, standard JMH options are accepted) with the
+ * GC profiler attached, so every result reports throughput together with
+ * allocation per operation ({@code gc.alloc.rate.norm}). Results of
+ * {@link SearchBenchmark} are followed by the speedup of parallel search.
+ *
+ * Usage: {@code java -jar target/benchmarks.jar [JMH options] [regexp]}
+ *
+ * @author TMAZUREK
+ *
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		Collection<RunResult> results = new Runner(options).run();
+		SearchBenchmark.printSpeedup(results);
+	}
+}
@@ -0,0 +1,103 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Benchmarks of the public {@link BoardManager} operations
+ *
+ * @author TMAZUREK
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BoardManagerBenchmark {
+
+	@Param
+	private Fixture fixture;
+
+	private static final int PERFORM_MOVE_BATCH = 1000;
+
+	private BoardManager boardManager;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		boardManager = fixture.create();
+	}
+
+	/**
+	 * performMove changes the position, so it needs fresh copies of the
+	 * fixture. They are prepared in batches, outside of the measurement, and
+	 * one invocation performs the move on the whole batch, so the setup and
+	 * the timestamps of a single short call do not distort the result.
+	 */
+	@State(Scope.Thread)
+	public static class PerformMoveState {
+
+		private final BoardManager[] boardManagers = new BoardManager[PERFORM_MOVE_BATCH];
+		private Move firstLegalMove;
+
+		@Setup(Level.Trial)
+		public void setUp(BoardManagerBenchmark benchmark) {
+			BoardManager boardManager = benchmark.fixture.create();
+			int[] moves = new int[BoardManager.MAX_LEGAL_MOVES];
+			boardManager.generateLegalMoves(moves);
+			firstLegalMove = PackedMove.toMove(moves[0], boardManager.getBoard());
+		}
+
+		@Setup(Level.Invocation)
+		public void setUpBatch(BoardManagerBenchmark benchmark) {
+			for (int i = 0; i < boardManagers.length; i++) {
+				boardManagers[i] = benchmark.fixture.create();
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(PERFORM_MOVE_BATCH)
+	public void performMove(PerformMoveState state, Blackhole blackhole) throws InvalidMoveException {
+		Move move = state.firstLegalMove;
+		for (BoardManager manager : state.boardManagers) {
+			blackhole.consume(manager.performMove(move.getFrom(), move.getTo()));
+		}
+	}
+
+	@Benchmark
+	public BoardState updateBoardState() {
+		return boardManager.updateBoardState();
+	}
+
+	@Benchmark
+	public boolean checkThreefoldRepetitionRule() {
+		return boardManager.checkThreefoldRepetitionRule();
+	}
+
+	@Benchmark
+	public boolean checkFiftyMoveRule() {
+		return boardManager.checkFiftyMoveRule();
+	}
+}
@@ -0,0 +1,70 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.validators.CheckValidator;
+
+/**
+ * Benchmarks of {@link CheckValidator}. The board keeps its attack maps up to
+ * date while pieces move, so every invocation makes one of the legal moves of
+ * the position and takes it back before the check test; the update costs
+ * alone are measured by {@link #makeAndUnmakeMove()}.
+ *
+ * @author TMAZUREK
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CheckValidatorBenchmark {
+
+	@Param
+	private Fixture fixture;
+
+	@Param
+	private Color kingsColor;
+
+	private BoardManager boardManager;
+	private Board board;
+	private final int[] moves = new int[BoardManager.MAX_LEGAL_MOVES];
+	private int moveCount;
+	private int nextMove;
+
+	@Setup
+	public void setUp() {
+		boardManager = fixture.create();
+		board = boardManager.getBoard();
+		moveCount = boardManager.generateLegalMoves(moves);
+	}
+
+	@Benchmark
+	public boolean isInCheck() {
+		makeAndUnmakeMove();
+		return CheckValidator.isInCheck(kingsColor, board);
+	}
+
+	@Benchmark
+	public void makeAndUnmakeMove() {
+		boardManager.makeMove(moves[nextMove]);
+		boardManager.unmakeMove();
+		nextMove = nextMove + 1 == moveCount ? 0 : nextMove + 1;
+	}
+}
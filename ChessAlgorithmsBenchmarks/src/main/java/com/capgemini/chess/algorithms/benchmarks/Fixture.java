@@ -0,0 +1,110 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.data.pieces.Pieces;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Positions used by the benchmarks. Opening and middlegame are reached by
+ * performing moves from the initial position, so their move history is
+ * realistic. The endgame is set up piece by piece and keeps one piece of
+ * every type for the side to move, so all validators can be measured on it.
+ *
+ * @author TMAZUREK
+ *
+ */
+public enum Fixture {
+
+	/**
+	 * Ruy Lopez after 3...a6
+	 */
+	OPENING("e2e4 e7e5 g1f3 b8c6 f1b5 a7a6"),
+
+	/**
+	 * Ruy Lopez, Breyer variation after 10...Nbd7
+	 */
+	MIDDLEGAME("e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4 g8f6 e1g1 f8e7 f1e1 b7b5 a4b3 d7d6 c2c3 e8g8 h2h3 c6b8 d2d4 b8d7"),
+
+	/**
+	 * Heavy pieces and minor pieces with few pawns, white to move
+	 */
+	ENDGAME(null, "Kg2 Qd3 Rc1 Be3 Nf3 Pa3 Pg3 Ph4", "Kg7 Qd6 Rc8 Be6 Nf6 Pa6 Pg6 Ph5");
+
+	private final String moves;
+	private final String whitePieces;
+	private final String blackPieces;
+
+	Fixture(String moves) {
+		this(moves, null, null);
+	}
+
+	Fixture(String moves, String whitePieces, String blackPieces) {
+		this.moves = moves;
+		this.whitePieces = whitePieces;
+		this.blackPieces = blackPieces;
+	}
+
+	/**
+	 * Creates a new manager holding the position
+	 *
+	 * @return board manager
+	 */
+	public BoardManager create() {
+		BoardManager boardManager;
+		if (moves != null) {
+			boardManager = new BoardManager();
+			try {
+				for (String move : moves.split(" ")) {
+					boardManager.performMove(toCoordinate(move.substring(0, 2)), toCoordinate(move.substring(2, 4)));
+				}
+			} catch (InvalidMoveException e) {
+				throw new IllegalStateException("Invalid fixture move in " + name(), e);
+			}
+		} else {
+			Board board = new Board();
+			placePieces(board, whitePieces, Color.WHITE);
+			placePieces(board, blackPieces, Color.BLACK);
+			boardManager = new BoardManager(board);
+		}
+		return boardManager;
+	}
+
+	/**
+	 * Converts field name like "e4" to coordinates
+	 *
+	 * @param field
+	 *            field name
+	 * @return coordinates of the field
+	 */
+	public static Coordinate toCoordinate(String field) {
+		return Coordinate.of(field.charAt(0) - 'a', field.charAt(1) - '1');
+	}
+
+	private static void placePieces(Board board, String pieces, Color color) {
+		for (String piece : pieces.split(" ")) {
+			board.setPieceAt(createPiece(piece.charAt(0), color), toCoordinate(piece.substring(1)));
+		}
+	}
+
+	private static Piece createPiece(char symbol, Color color) {
+		switch (symbol) {
+		case 'K':
+			return Pieces.of(color, PieceType.KING);
+		case 'Q':
+			return Pieces.of(color, PieceType.QUEEN);
+		case 'R':
+			return Pieces.of(color, PieceType.ROOK);
+		case 'B':
+			return Pieces.of(color, PieceType.BISHOP);
+		case 'N':
+			return Pieces.of(color, PieceType.KNIGHT);
+		default:
+			return Pieces.of(color, PieceType.PAWN);
+		}
+	}
+}
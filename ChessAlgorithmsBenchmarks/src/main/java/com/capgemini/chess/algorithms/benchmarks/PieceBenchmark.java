@@ -0,0 +1,96 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Benchmarks of {@link Piece#validateMove(Board, Coordinate, Coordinate)} for
+ * every piece type. Each invocation validates the next of the moves the
+ * pieces of given type can make, so only valid moves are measured and no
+ * exceptions are thrown. Positions without such a piece for the side to move
+ * measure an empty loop.
+ *
+ * @author TMAZUREK
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PieceBenchmark {
+
+	@Param
+	private Fixture fixture;
+
+	@Param
+	private PieceType pieceType;
+
+	private Board board;
+	private Piece[] pieces;
+	private Coordinate[] froms;
+	private Coordinate[] tos;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		BoardManager boardManager = fixture.create();
+		board = boardManager.getBoard();
+
+		List<Coordinate[]> candidates = new ArrayList<>();
+		for (int from = 0; from < Board.SIZE * Board.SIZE; from++) {
+			Piece piece = board.getPieceAt(from);
+			if (piece == null || piece.getType() != pieceType || piece.getColor() != board.getNextMoveColor()) {
+				continue;
+			}
+			for (int to = 0; to < Board.SIZE * Board.SIZE; to++) {
+				Coordinate fromCoordinate = Coordinate.of(from);
+				Coordinate toCoordinate = Coordinate.of(to);
+				if (piece.tryValidateMove(board, fromCoordinate, toCoordinate) != null) {
+					candidates.add(new Coordinate[] { fromCoordinate, toCoordinate });
+				}
+			}
+		}
+
+		pieces = new Piece[candidates.size()];
+		froms = new Coordinate[candidates.size()];
+		tos = new Coordinate[candidates.size()];
+		for (int i = 0; i < candidates.size(); i++) {
+			froms[i] = candidates.get(i)[0];
+			tos[i] = candidates.get(i)[1];
+			pieces[i] = board.getPieceAt(froms[i]);
+		}
+	}
+
+	@Benchmark
+	public Move validateMove() throws InvalidMoveException {
+		if (pieces.length == 0) {
+			return null;
+		}
+		int index = next;
+		next = index + 1 == pieces.length ? 0 : index + 1;
+		return pieces[index].validateMove(board, froms[index], tos[index]);
+	}
+}
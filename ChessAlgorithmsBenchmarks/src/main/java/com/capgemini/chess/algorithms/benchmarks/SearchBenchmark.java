@@ -0,0 +1,126 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+
+import com.capgemini.chess.algorithms.engine.Engine;
+import com.capgemini.chess.algorithms.engine.SearchLimits;
+import com.capgemini.chess.algorithms.engine.SearchResult;
+import com.capgemini.chess.algorithms.engine.TranspositionTable;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Benchmark of the {@link Engine} searching to a fixed depth with growing
+ * number of threads. The score is the number of searches per second, so the
+ * speedup over one thread is the ratio of the scores, printed by
+ * {@link #printSpeedup(Collection)}. The {@code nodes} counter reports
+ * combined nodes per second of all threads.
+ *
+ * @author TMAZUREK
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+	private static final int TABLE_SIZE_MB = 64;
+
+	@Param({ "OPENING", "MIDDLEGAME" })
+	private Fixture fixture;
+
+	@Param({ "1", "2", "4", "8" })
+	private int threads;
+
+	@Param("6")
+	private int depth;
+
+	private BoardManager boardManager;
+	private TranspositionTable table;
+	private Engine engine;
+
+	/**
+	 * Nodes searched by all threads, reported per second
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Nodes {
+
+		public long nodes;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		boardManager = fixture.create();
+		table = new TranspositionTable(TABLE_SIZE_MB);
+		engine = new Engine(table, threads);
+	}
+
+	/**
+	 * Every search starts with an empty table, like the first search of a
+	 * game; clearing is not measured
+	 */
+	@Setup(Level.Invocation)
+	public void clearTable() {
+		table.clear();
+	}
+
+	@Benchmark
+	public SearchResult searchToDepth(Nodes counter) {
+		SearchResult result = engine.search(boardManager, SearchLimits.depth(depth));
+		counter.nodes += result.getNodes();
+		return result;
+	}
+
+	/**
+	 * Prints speedup of every thread count over one thread for results of
+	 * this benchmark
+	 *
+	 * @param results
+	 *            results of the benchmark run
+	 */
+	public static void printSpeedup(Collection<RunResult> results) {
+		Map<String, Double> singleThreadScores = new HashMap<>();
+		for (RunResult result : results) {
+			if (isSearchResult(result) && "1".equals(result.getParams().getParam("threads"))) {
+				singleThreadScores.put(getPositionKey(result), result.getPrimaryResult().getScore());
+			}
+		}
+		for (RunResult result : results) {
+			Double singleThreadScore = isSearchResult(result) ? singleThreadScores.get(getPositionKey(result)) : null;
+			if (singleThreadScore != null) {
+				System.out.printf("Search speedup %s, %s threads: %.2f%n", getPositionKey(result),
+						result.getParams().getParam("threads"),
+						result.getPrimaryResult().getScore() / singleThreadScore);
+			}
+		}
+	}
+
+	private static boolean isSearchResult(RunResult result) {
+		return result.getParams().getBenchmark().startsWith(SearchBenchmark.class.getName());
+	}
+
+	private static String getPositionKey(RunResult result) {
+		return result.getParams().getParam("fixture") + " depth " + result.getParams().getParam("depth");
+	}
+}